@@ -0,0 +1,92 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.TodaySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PromptTemplateBenchmark {
+
+    private static final String QUESTION = "오늘 저녁은 뭘 먹으면 좋을까요?";
+
+    @Param({"0", "3", "12"})
+    int records;
+
+    @Param({"츤데레", "차분함"})
+    String emotionMode;
+
+    private PromptTemplate promptTemplate;
+    private TodaySnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        promptTemplate = new PromptTemplate();
+
+        LocalDate today = LocalDate.now();
+        List<TodaySnapshot.MealItem> meals = new ArrayList<>();
+        List<TodaySnapshot.WorkoutItem> workouts = new ArrayList<>();
+        List<TodaySnapshot.EmotionItem> emotions = new ArrayList<>();
+        for (int i = 0; i < records; i++) {
+            meals.add(TodaySnapshot.MealItem.builder().id((long) i).description("현미밥과 닭가슴살 " + i)
+                .caloriesEstimate(400 + i).date(today).build());
+            workouts.add(TodaySnapshot.WorkoutItem.builder().id((long) i).type("러닝").duration(30)
+                .caloriesBurned(250).date(today).build());
+            emotions.add(TodaySnapshot.EmotionItem.builder().id((long) i).mood("좋음")
+                .note(i % 2 == 0 ? "산책 후 기분 전환" : null).date(today).build());
+        }
+
+        snapshot = TodaySnapshot.builder()
+            .date(today)
+            .user(TodaySnapshot.UserInfo.builder().id(1L).nickname("민지").emotionMode(emotionMode).weightGoal(58.0).build())
+            .meals(meals)
+            .workouts(workouts)
+            .emotions(emotions)
+            .build();
+    }
+
+    @Benchmark
+    public String legacyDailyAdvice() {
+        return LegacyPromptBuilders.dailyAdvice(snapshot);
+    }
+
+    @Benchmark
+    public void templateDailyAdvice(Blackhole blackhole) {
+        blackhole.consume(promptTemplate.dailyAdviceSystem(emotionMode));
+        blackhole.consume(promptTemplate.dailyAdvice(snapshot));
+    }
+
+    @Benchmark
+    public String legacyQuestion() {
+        return LegacyPromptBuilders.question(snapshot, QUESTION);
+    }
+
+    @Benchmark
+    public void templateQuestion(Blackhole blackhole) {
+        blackhole.consume(promptTemplate.questionSystem(emotionMode));
+        blackhole.consume(promptTemplate.question(snapshot, QUESTION));
+    }
+
+    @Benchmark
+    public String legacyUserContext() {
+        return LegacyPromptBuilders.userContext(snapshot);
+    }
+
+    @Benchmark
+    public String templateUserContext() {
+        return promptTemplate.userContext(snapshot);
+    }
+}
@@ -3,9 +3,13 @@ import com.mydiet.model.Role;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = "com.mydiet")
+@EnableAsync
+@EnableScheduling
 public class MydietApplication {
 
     public static void main(String[] args) {
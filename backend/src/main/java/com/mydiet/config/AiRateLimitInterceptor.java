@@ -0,0 +1,58 @@
+package com.mydiet.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydiet.model.User;
+import com.mydiet.service.AiRateLimiter;
+import com.mydiet.service.CurrentUserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRateLimitInterceptor implements HandlerInterceptor {
+
+    private final CurrentUserService currentUserService;
+    private final AiRateLimiter aiRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        User user = currentUserService.resolveUser(request);
+        if (user == null) {
+            return true;
+        }
+
+        long retryAfter = aiRateLimiter.checkAvailable(user);
+        if (retryAfter == 0) {
+            return true;
+        }
+
+        log.warn("AI 요청 한도 초과: userId={}, uri={}, retryAfter={}s", user.getId(), request.getRequestURI(), retryAfter);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+            "success", false,
+            "error", "AI 요청 한도를 초과했습니다. " + retryAfter + "초 후 다시 시도해주세요.",
+            "retryAfter", retryAfter
+        ));
+        return false;
+    }
+}
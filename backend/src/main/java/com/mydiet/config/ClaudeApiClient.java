@@ -1,59 +1,75 @@
 package com.mydiet.config;
 import com.mydiet.model.Role;
+import com.mydiet.dto.ClaudeReply;
+import com.mydiet.dto.ClaudeRequest;
+import com.mydiet.dto.ConversationContext;
+import com.mydiet.service.ClaudeGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ClaudeApiClient {
 
-    @Value("${claude.api.key}")
-    private String apiKey;
-
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    public String askClaude(String prompt) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("x-api-key", apiKey);
-            headers.set("anthropic-version", "2023-06-01");
-
-            Map<String, Object> requestBody = Map.of(
-                "model", "claude-3-5-sonnet-20240620",
-                "max_tokens", 1000,
-                "messages", List.of(Map.of("role", "user", "content", prompt))
-            );
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                "https://api.anthropic.com/v1/messages",
-                entity,
-                Map.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> content = (List<Map<String, Object>>) response.getBody().get("content");
-                if (content != null && !content.isEmpty()) {
-                    return (String) content.get(0).get("text");
-                }
-            }
-            
-            return "Claude 응답을 받을 수 없습니다.";
-            
-        } catch (Exception e) {
-            log.error("Claude API 호출 실패", e);
-            return "현재 Claude 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    private static final String MODEL = "claude-3-5-sonnet-20240620";
+
+    private final ClaudeGateway claudeGateway;
+
+    public Mono<String> askClaudeAsync(String prompt) {
+        return requestText(prompt)
+            .defaultIfEmpty("Claude 응답을 받을 수 없습니다.")
+            .onErrorResume(e -> {
+                log.error("Claude API 호출 실패", e);
+                return Mono.just("현재 Claude 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            });
+    }
+
+    public Mono<ClaudeReply> askWithHistory(List<ClaudeRequest.SystemBlock> system, String prompt,
+                                            ConversationContext conversation) {
+        return claudeGateway.send(withHistory(system, prompt, conversation))
+            .filter(ClaudeReply::hasText);
+    }
+
+    public Flux<String> streamWithHistory(List<ClaudeRequest.SystemBlock> system, String prompt,
+                                          ConversationContext conversation, Consumer<ClaudeReply> onUsage) {
+        return claudeGateway.stream(withHistory(system, prompt, conversation), onUsage);
+    }
+
+    public Mono<String> requestText(String prompt) {
+        return requestReply(prompt).map(ClaudeReply::getText);
+    }
+
+    public Mono<ClaudeReply> requestReply(String prompt) {
+        return claudeGateway.send(ClaudeRequest.of(MODEL, null, prompt))
+            .filter(ClaudeReply::hasText);
+    }
+
+    public Mono<ClaudeReply> requestReply(List<ClaudeRequest.SystemBlock> system, String prompt) {
+        return claudeGateway.send(ClaudeRequest.builder()
+                .model(MODEL)
+                .systemBlocks(system)
+                .message(ClaudeRequest.Message.user(prompt))
+                .build())
+            .filter(ClaudeReply::hasText);
+    }
+
+    private ClaudeRequest withHistory(List<ClaudeRequest.SystemBlock> system, String prompt,
+                                      ConversationContext conversation) {
+        ClaudeRequest.ClaudeRequestBuilder request = ClaudeRequest.builder()
+            .model(MODEL)
+            .systemBlocks(system)
+            .messages(conversation.getTurns())
+            .message(ClaudeRequest.Message.user(prompt));
+        if (conversation.getSummary() != null) {
+            request.systemBlock(ClaudeRequest.SystemBlock.plain(conversation.getSummary()));
         }
+        return request.build();
     }
-}
\ No newline at end of file
+}
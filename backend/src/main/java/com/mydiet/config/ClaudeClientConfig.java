@@ -0,0 +1,47 @@
+package com.mydiet.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class ClaudeClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider claudeConnectionProvider(
+        @Value("${claude.client.max-connections:50}") int maxConnections,
+        @Value("${claude.client.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+        @Value("${claude.client.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs,
+        @Value("${claude.client.max-idle-time-seconds:30}") long maxIdleTimeSeconds) {
+        return ConnectionProvider.builder("claude")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+            .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+            .evictInBackground(Duration.ofSeconds(30))
+            .build();
+    }
+
+    @Bean
+    public WebClient claudeWebClient(
+        WebClient.Builder builder,
+        ConnectionProvider claudeConnectionProvider,
+        @Value("${claude.client.connect-timeout-ms:5000}") int connectTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(claudeConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .compress(true);
+
+        return builder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
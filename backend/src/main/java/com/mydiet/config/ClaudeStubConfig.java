@@ -0,0 +1,28 @@
+package com.mydiet.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "claude.stub.enabled", havingValue = "true")
+public class ClaudeStubConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ClaudeStubServer claudeStubServer(
+        ObjectMapper objectMapper,
+        @Value("${claude.stub.port:18089}") int port,
+        @Value("${claude.stub.latency:lognormal:400:0.5}") String latency,
+        @Value("${claude.stub.rate-limit-rate:0}") double rateLimitRate,
+        @Value("${claude.stub.overload-rate:0}") double overloadRate,
+        @Value("${claude.stub.timeout-rate:0}") double timeoutRate,
+        @Value("${claude.stub.timeout-ms:120000}") long timeoutMs,
+        @Value("${claude.stub.chunk-delay-ms:20}") long chunkDelayMs,
+        @Value("${claude.stub.threads:200}") int threads,
+        @Value("${claude.stub.seed:42}") long seed) {
+        return new ClaudeStubServer(objectMapper, port, latency, rateLimitRate, overloadRate,
+            timeoutRate, timeoutMs, chunkDelayMs, threads, seed);
+    }
+}
@@ -0,0 +1,335 @@
+package com.mydiet.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class ClaudeStubServer {
+
+    private static final Pattern MODE_FIELD = Pattern.compile("(?:감정 모드|코칭 스타일|톤)\\s*:\\s*'?([^\\s'\\\\]+)");
+    private static final Map<String, String[]> REPLIES = new LinkedHashMap<>();
+
+    static {
+        REPLIES.put("무자비", new String[]{
+            "변명은 필요 없다. 오늘 운동 30분, 지금 당장 시작해라. 🔥",
+            "칼로리 초과다. 내일 아침은 단백질 위주로 조정한다. ⚡",
+            "목표는 기다려주지 않는다. 간식은 오늘부로 끊어라. 💀"
+        });
+        REPLIES.put("츤데레", new String[]{
+            "흥, 이 정도로 만족하면 안 되거든? 그래도... 기록한 건 칭찬해줄게. 😤",
+            "야식은 안 된다고 했지! ...배고프면 바나나 하나 정도는 봐줄게. 🙄",
+            "별로 걱정하는 건 아니지만, 물은 꼭 챙겨 마셔. 알았지? 💢"
+        });
+        REPLIES.put("다정함", new String[]{
+            "오늘도 정말 잘하고 있어요! 물 한 잔 더 마시고 가볍게 산책해보는 건 어떨까요? 🌟",
+            "조금 부족해도 괜찮아요. 저녁은 채소 위주로 가볍게 챙겨 드세요. 💚",
+            "꾸준히 기록하는 것만으로도 대단해요. 오늘 밤은 푹 쉬어요! ✨"
+        });
+        REPLIES.put("격려", new String[]{
+            "와! 벌써 이만큼 해냈어요! 이 기세로 내일도 파이팅! 🎉",
+            "한 걸음씩 가는 게 제일 빨라요. 오늘도 멋졌어요! 🚀",
+            "작은 성공이 쌓이고 있어요. 스스로를 칭찬해주세요! ⭐"
+        });
+    }
+
+    private static final String[] DEFAULT_REPLIES = {
+        "균형 잡힌 식단과 가벼운 운동으로 오늘 하루도 건강하게 보내세요! 💪",
+        "수분 섭취를 잊지 말고, 단백질과 채소를 골고루 챙겨 드세요. 🥗"
+    };
+
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final LatencyModel latency;
+    private final double rateLimitRate;
+    private final double overloadRate;
+    private final double timeoutRate;
+    private final long timeoutMillis;
+    private final long chunkDelayMillis;
+    private final int threads;
+    private final Random random;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong streamed = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong overloaded = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public ClaudeStubServer(ObjectMapper objectMapper, int port, String latencySpec,
+                            double rateLimitRate, double overloadRate, double timeoutRate,
+                            long timeoutMillis, long chunkDelayMillis, int threads, long seed) {
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.latency = LatencyModel.parse(latencySpec);
+        this.rateLimitRate = rateLimitRate;
+        this.overloadRate = overloadRate;
+        this.timeoutRate = timeoutRate;
+        this.timeoutMillis = timeoutMillis;
+        this.chunkDelayMillis = chunkDelayMillis;
+        this.threads = threads;
+        this.random = new Random(seed);
+    }
+
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(threads);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 512);
+        server.createContext("/v1/messages", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("=== Claude 스텁 서버 시작: {} (latency={}) ===", getMessagesUrl(), latency);
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        log.info("=== Claude 스텁 서버 종료 ===");
+    }
+
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    public String getMessagesUrl() {
+        return "http://127.0.0.1:" + getPort() + "/v1/messages";
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+            "requests", requests.get(),
+            "streamed", streamed.get(),
+            "rateLimited", rateLimited.get(),
+            "overloaded", overloaded.get(),
+            "timedOut", timedOut.get()
+        );
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (InputStream in = exchange.getRequestBody()) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "invalid_request_error", "POST만 지원합니다.");
+                return;
+            }
+            if (exchange.getRequestHeaders().getFirst("x-api-key") == null) {
+                sendError(exchange, 401, "authentication_error", "x-api-key 헤더가 없습니다.");
+                return;
+            }
+
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            JsonNode request = objectMapper.readTree(body);
+
+            double roll = nextDouble();
+            if (roll < timeoutRate) {
+                timedOut.incrementAndGet();
+                sleep(timeoutMillis);
+                return;
+            }
+            if (roll < timeoutRate + rateLimitRate) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().set("retry-after", "1");
+                sendError(exchange, 429, "rate_limit_error", "요청 한도를 초과했습니다.");
+                return;
+            }
+            if (roll < timeoutRate + rateLimitRate + overloadRate) {
+                overloaded.incrementAndGet();
+                sendError(exchange, 529, "overloaded_error", "서버가 과부하 상태입니다.");
+                return;
+            }
+
+            sleep(latency.sample(random));
+            String reply = pickReply(body);
+            int inputTokens = Math.max(1, body.length() / 3);
+            int outputTokens = Math.max(1, reply.length());
+            String model = request.path("model").asText("claude-stub");
+
+            if (request.path("stream").asBoolean(false)) {
+                streamed.incrementAndGet();
+                stream(exchange, model, reply, inputTokens, outputTokens);
+            } else {
+                respond(exchange, model, reply, inputTokens, outputTokens);
+            }
+        } catch (IOException e) {
+            log.debug("Claude 스텁 응답 중 연결 종료: {}", e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, String model, String reply, int inputTokens, int outputTokens) throws IOException {
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("id", "msg_stub_" + requests.get());
+        message.put("type", "message");
+        message.put("role", "assistant");
+        message.put("model", model);
+        message.putArray("content").addObject().put("type", "text").put("text", reply);
+        message.put("stop_reason", "end_turn");
+        message.putObject("usage").put("input_tokens", inputTokens).put("output_tokens", outputTokens);
+
+        byte[] bytes = objectMapper.writeValueAsBytes(message);
+        exchange.getResponseHeaders().set("content-type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void stream(HttpExchange exchange, String model, String reply, int inputTokens, int outputTokens) throws IOException {
+        exchange.getResponseHeaders().set("content-type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+
+        ObjectNode start = objectMapper.createObjectNode().put("type", "message_start");
+        ObjectNode message = start.putObject("message");
+        message.put("id", "msg_stub_" + requests.get()).put("type", "message").put("role", "assistant").put("model", model);
+        message.putArray("content");
+        message.putObject("usage").put("input_tokens", inputTokens).put("output_tokens", 1);
+        writeEvent(out, "message_start", start);
+
+        ObjectNode blockStart = objectMapper.createObjectNode().put("type", "content_block_start").put("index", 0);
+        blockStart.putObject("content_block").put("type", "text").put("text", "");
+        writeEvent(out, "content_block_start", blockStart);
+
+        int offset = 0;
+        while (offset < reply.length()) {
+            int end = reply.offsetByCodePoints(offset, Math.min(8, reply.codePointCount(offset, reply.length())));
+            ObjectNode delta = objectMapper.createObjectNode().put("type", "content_block_delta").put("index", 0);
+            delta.putObject("delta").put("type", "text_delta").put("text", reply.substring(offset, end));
+            writeEvent(out, "content_block_delta", delta);
+            offset = end;
+            sleep(chunkDelayMillis);
+        }
+
+        writeEvent(out, "content_block_stop", objectMapper.createObjectNode().put("type", "content_block_stop").put("index", 0));
+        ObjectNode messageDelta = objectMapper.createObjectNode().put("type", "message_delta");
+        messageDelta.putObject("delta").put("stop_reason", "end_turn");
+        messageDelta.putObject("usage").put("output_tokens", outputTokens);
+        writeEvent(out, "message_delta", messageDelta);
+        writeEvent(out, "message_stop", objectMapper.createObjectNode().put("type", "message_stop"));
+    }
+
+    private void writeEvent(OutputStream out, String event, ObjectNode data) throws IOException {
+        out.write(("event: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8));
+        out.write(objectMapper.writeValueAsBytes(data));
+        out.write("\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String type, String message) throws IOException {
+        ObjectNode error = objectMapper.createObjectNode().put("type", "error");
+        error.putObject("error").put("type", type).put("message", message);
+        byte[] bytes = objectMapper.writeValueAsBytes(error);
+        exchange.getResponseHeaders().set("content-type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private String pickReply(String body) {
+        String[] pool = null;
+        Matcher field = MODE_FIELD.matcher(body);
+        while (pool == null && field.find()) {
+            pool = REPLIES.get(field.group(1));
+        }
+        if (pool == null) {
+            pool = DEFAULT_REPLIES;
+            for (Map.Entry<String, String[]> persona : REPLIES.entrySet()) {
+                if (body.contains(persona.getKey())) {
+                    pool = persona.getValue();
+                    break;
+                }
+            }
+        }
+        return pool[Math.floorMod(body.hashCode(), pool.length)];
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static final class LatencyModel {
+        private final String kind;
+        private final double first;
+        private final double second;
+
+        private LatencyModel(String kind, double first, double second) {
+            this.kind = kind;
+            this.first = first;
+            this.second = second;
+        }
+
+        static LatencyModel parse(String spec) {
+            String[] parts = (spec == null || spec.isBlank() ? "fixed:0" : spec.trim()).split(":");
+            try {
+                switch (parts[0]) {
+                    case "fixed":
+                        return new LatencyModel("fixed", Double.parseDouble(parts[1]), 0);
+                    case "uniform":
+                        return new LatencyModel("uniform", Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                    case "lognormal":
+                        return new LatencyModel("lognormal", Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+                }
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("지연 분포 형식 오류: " + spec
+                    + " (fixed:ms, uniform:minMs:maxMs, lognormal:medianMs:sigma)", e);
+            }
+        }
+
+        long sample(Random random) {
+            synchronized (random) {
+                switch (kind) {
+                    case "uniform":
+                        return (long) (first + random.nextDouble() * (second - first));
+                    case "lognormal":
+                        return (long) (first * Math.exp(second * random.nextGaussian()));
+                    default:
+                        return (long) first;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind + ":" + (long) first + ("fixed".equals(kind) ? "" : ":" + second);
+        }
+    }
+}
@@ -1,24 +1,29 @@
 package com.mydiet.controller;
 
 import com.mydiet.config.ClaudeApiClient;
-import com.mydiet.model.User;
-import com.mydiet.model.MealLog;
-import com.mydiet.model.WorkoutLog;
-import com.mydiet.model.EmotionLog;
-import com.mydiet.repository.UserRepository;
-import com.mydiet.repository.MealLogRepository;
-import com.mydiet.repository.WorkoutLogRepository;
-import com.mydiet.repository.EmotionLogRepository;
+import com.mydiet.dto.ClaudeReply;
+import com.mydiet.dto.ClaudeRequest;
+import com.mydiet.dto.ConversationContext;
+import com.mydiet.dto.TodaySnapshot;
+import com.mydiet.service.ClaudeService;
+import com.mydiet.service.ConversationContextService;
+import com.mydiet.service.DailySnapshotService;
+import com.mydiet.service.PromptTemplate;
+import com.mydiet.service.SemanticAnswerCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import javax.servlet.http.HttpSession;
 
-import java.time.LocalDate;
-import java.util.Map;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @RestController
@@ -28,13 +33,14 @@ import java.util.List;
 public class AIQuestionController {
     
     private final ClaudeApiClient claudeApiClient;
-    private final UserRepository userRepository;
-    private final MealLogRepository mealLogRepository;
-    private final WorkoutLogRepository workoutLogRepository;
-    private final EmotionLogRepository emotionLogRepository;
+    private final DailySnapshotService dailySnapshotService;
+    private final ClaudeService claudeService;
+    private final PromptTemplate promptTemplate;
+    private final ConversationContextService conversationContextService;
+    private final SemanticAnswerCache semanticAnswerCache;
     
     @PostMapping("/ask")
-    public ResponseEntity<?> askQuestion(@RequestBody Map<String, Object> request, HttpSession session) {
+    public Mono<ResponseEntity<?>> askQuestion(@RequestBody Map<String, Object> request, HttpSession session) {
         try {
             String question = (String) request.get("question");
             Long userId = (Long) session.getAttribute("userId");
@@ -42,92 +48,160 @@ public class AIQuestionController {
             log.info("AI question from user {}: {}", userId, question);
             
             if (question == null || question.trim().isEmpty()) {
-                return ResponseEntity.ok(Map.of(
+                return Mono.just(ResponseEntity.ok(Map.of(
                     "success", false,
                     "error", "질문을 입력해주세요."
-                ));
+                )));
             }
             
-            String context = getUserContext(userId);
+            TodaySnapshot snapshot = loadSnapshot(userId);
+            ConversationContext conversation = conversationContextService.load(userId);
+            String context = getUserContext(userId, snapshot);
+            String cached = conversation.isEmpty() ? semanticAnswerCache.lookup(question, userId, context) : null;
+            if (cached != null) {
+                rememberTurn(userId, question, cached);
+                return Mono.just(ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "answer", cached,
+                    "cached", true
+                )));
+            }
             
             String fullPrompt = context + "\n\n사용자 질문: " + question + "\n\n위 정보를 바탕으로 답변해주세요.";
-            String answer = claudeApiClient.askClaude(fullPrompt);
-            
-            log.info("Claude response: {}", answer);
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "answer", answer != null ? answer : "죄송합니다. 현재 응답을 생성할 수 없습니다."
-            ));
+            return claudeApiClient.askWithHistory(systemFor(snapshot), fullPrompt, conversation)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(reply -> {
+                    rememberTurn(userId, question, reply);
+                    if (conversation.isEmpty()) {
+                        semanticAnswerCache.store(question, userId, context, reply.getText());
+                    }
+                })
+                .map(ClaudeReply::getText)
+                .defaultIfEmpty("Claude 응답을 받을 수 없습니다.")
+                .onErrorResume(e -> {
+                    log.error("Claude API 호출 실패", e);
+                    return Mono.just("현재 Claude 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해주세요.");
+                })
+                .map(answer -> {
+                    log.info("Claude response: {}", answer);
+                    return ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "answer", answer
+                    ));
+                });
             
         } catch (Exception e) {
             log.error("AI 질문 처리 실패", e);
-            return ResponseEntity.ok(Map.of(
+            return Mono.just(ResponseEntity.ok(Map.of(
                 "success", false,
                 "answer", "오류가 발생했습니다. 잠시 후 다시 시도해주세요."
-            ));
+            )));
+        }
+    }
+    
+    @GetMapping(value = "/ask/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> askQuestionStream(@RequestParam String question, HttpSession session) {
+        Long userId = (Long) session.getAttribute("userId");
+        log.info("AI stream question from user {}: {}", userId, question);
+        
+        if (question.trim().isEmpty()) {
+            return Flux.just(ServerSentEvent.<String>builder().event("error").data("질문을 입력해주세요.").build());
+        }
+        
+        TodaySnapshot snapshot = loadSnapshot(userId);
+        ConversationContext conversation = conversationContextService.load(userId);
+        String context = getUserContext(userId, snapshot);
+        String cached = conversation.isEmpty() ? semanticAnswerCache.lookup(question, userId, context) : null;
+        if (cached != null) {
+            return Flux.concat(
+                Mono.just(ServerSentEvent.<String>builder().event("delta").data(cached).build()),
+                Mono.fromCallable(() -> {
+                        rememberTurn(userId, question, cached);
+                        return ServerSentEvent.<String>builder().event("done").data("").build();
+                    })
+                    .subscribeOn(Schedulers.boundedElastic()));
+        }
+        
+        String fullPrompt = context + "\n\n사용자 질문: " + question + "\n\n위 정보를 바탕으로 답변해주세요.";
+        StringBuilder answer = new StringBuilder();
+        AtomicReference<ClaudeReply> usage = new AtomicReference<>(ClaudeReply.builder().build());
+        
+        Flux<ServerSentEvent<String>> deltas = claudeApiClient.streamWithHistory(systemFor(snapshot), fullPrompt,
+                conversation, usage::set)
+            .doOnNext(answer::append)
+            .map(text -> ServerSentEvent.<String>builder().event("delta").data(text).build());
+        
+        Mono<ServerSentEvent<String>> done = Mono.fromCallable(() -> {
+                if (userId != null && answer.length() > 0) {
+                    claudeService.saveQuestionResponse(userId, question,
+                        usage.get().toBuilder().text(answer.toString()).build());
+                    if (conversation.isEmpty()) {
+                        semanticAnswerCache.store(question, userId, context, answer.toString());
+                    }
+                }
+                return ServerSentEvent.<String>builder().event("done").data("").build();
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+        
+        return deltas.concatWith(done)
+            .onErrorResume(e -> {
+                log.error("AI 스트리밍 질문 처리 실패", e);
+                return Flux.just(ServerSentEvent.<String>builder()
+                    .event("error")
+                    .data("오류가 발생했습니다. 잠시 후 다시 시도해주세요.")
+                    .build());
+            });
+    }
+    
+    private void rememberTurn(Long userId, String question, ClaudeReply reply) {
+        if (userId == null) {
+            return;
+        }
+        try {
+            claudeService.saveQuestionResponse(userId, question, reply);
+        } catch (Exception e) {
+            log.warn("대화 기록 저장 실패: userId={}", userId, e);
+        }
+    }
+    
+    private void rememberTurn(Long userId, String question, String answer) {
+        if (userId == null) {
+            return;
+        }
+        try {
+            claudeService.saveQuestionResponse(userId, question, answer);
+        } catch (Exception e) {
+            log.warn("대화 기록 저장 실패: userId={}", userId, e);
         }
     }
     
-    private String getUserContext(Long userId) {
+    private List<ClaudeRequest.SystemBlock> systemFor(TodaySnapshot snapshot) {
+        return promptTemplate.chatSystem(snapshot != null ? snapshot.getUser().getEmotionMode() : null);
+    }
+    
+    private TodaySnapshot loadSnapshot(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            return dailySnapshotService.getTodaySnapshot(userId).orElse(null);
+        } catch (Exception e) {
+            log.error("사용자 스냅샷 조회 실패", e);
+            return null;
+        }
+    }
+    
+    private String getUserContext(Long userId, TodaySnapshot snapshot) {
         try {
             if (userId == null) {
                 return "사용자 정보가 없습니다.";
             }
             
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
+            if (snapshot == null) {
                 return "사용자를 찾을 수 없습니다.";
             }
             
-            LocalDate today = LocalDate.now();
-            List<MealLog> todayMeals = mealLogRepository.findByUserIdAndDate(userId, today);
-            List<WorkoutLog> todayWorkouts = workoutLogRepository.findByUserIdAndDate(userId, today);
-            List<EmotionLog> todayEmotions = emotionLogRepository.findByUserIdAndDate(userId, today);
-            
-            StringBuilder context = new StringBuilder();
-            context.append("사용자 정보:\n");
-            context.append("- 닉네임: ").append(user.getNickname()).append("\n");
-            context.append("- 목표 체중: ").append(user.getWeightGoal()).append("kg\n");
-            context.append("- 감정 모드: ").append(user.getEmotionMode()).append("\n\n");
-            
-            context.append("오늘의 기록:\n");
-            
-            if (!todayMeals.isEmpty()) {
-                context.append("식단: ");
-                int totalCalories = 0;
-                for (MealLog meal : todayMeals) {
-                    context.append(meal.getDescription()).append(" ");
-                    totalCalories += meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0;
-                }
-                context.append("(총 ").append(totalCalories).append("kcal)\n");
-            } else {
-                context.append("식단: 기록 없음\n");
-            }
-            
-            if (!todayWorkouts.isEmpty()) {
-                context.append("운동: ");
-                int totalDuration = 0;
-                for (WorkoutLog workout : todayWorkouts) {
-                    context.append(workout.getType()).append(" ");
-                    totalDuration += workout.getDuration() != null ? workout.getDuration() : 0;
-                }
-                context.append("(총 ").append(totalDuration).append("분)\n");
-            } else {
-                context.append("운동: 기록 없음\n");
-            }
-            
-            if (!todayEmotions.isEmpty()) {
-                context.append("감정: ");
-                for (EmotionLog emotion : todayEmotions) {
-                    context.append(emotion.getMood()).append(" ");
-                }
-                context.append("\n");
-            } else {
-                context.append("감정: 기록 없음\n");
-            }
-            
-            return context.toString();
+            return promptTemplate.userContext(snapshot);
             
         } catch (Exception e) {
             log.error("사용자 컨텍스트 생성 실패", e);
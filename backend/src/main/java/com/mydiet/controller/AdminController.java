@@ -1,14 +1,24 @@
 package com.mydiet.controller;
 
+import com.mydiet.dto.KeysetPage;
+import com.mydiet.service.AccountDeletionService;
+import com.mydiet.service.AdminExportService;
 import com.mydiet.service.AdminService;
+import com.mydiet.service.ClaudeResponseWriter;
+import com.mydiet.service.DailyAdvicePregenerationService;
+import com.mydiet.service.DailySummaryService;
+import com.mydiet.service.SemanticAnswerCache;
 import com.mydiet.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -18,10 +28,13 @@ import java.util.Map;
 public class AdminController {
 
     private final AdminService adminService;
+    private final AccountDeletionService accountDeletionService;
+    private final AdminExportService adminExportService;
+    private final DailySummaryService dailySummaryService;
+    private final DailyAdvicePregenerationService dailyAdvicePregenerationService;
+    private final SemanticAnswerCache semanticAnswerCache;
+    private final ClaudeResponseWriter claudeResponseWriter;
     private final UserRepository userRepository;
-    private final MealLogRepository mealLogRepository;
-    private final WorkoutLogRepository workoutLogRepository;
-    private final EmotionLogRepository emotionLogRepository;
 
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
@@ -40,39 +53,96 @@ public class AdminController {
     }
 
     @GetMapping("/data")
-    public ResponseEntity<Map<String, Object>> getAllData() {
-        log.info("=== 관리자 전체 데이터 요청 ===");
+    public ResponseEntity<Map<String, Object>> getData(
+        @RequestParam(defaultValue = "meals") String type,
+        @RequestParam(required = false) Long userId,
+        @RequestParam(required = false) String direction,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
+        log.info("=== 관리자 데이터 조회: type={}, userId={} ===", type, userId);
         
         try {
-            Map<String, Object> data = adminService.getAllData();
-            log.info("전체 데이터 조회 성공");
-            return ResponseEntity.ok(data);
+            KeysetPage page = adminService.getDataPage(type, userId, direction, cursor, size);
+            return ResponseEntity.ok(toResponse(page, type));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            log.error("전체 데이터 조회 실패", e);
+            log.error("데이터 조회 실패", e);
             return ResponseEntity.status(500).body(
                 Map.of("error", "데이터 조회 실패: " + e.getMessage())
             );
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<?> export(
+        @RequestParam(defaultValue = "all") String type,
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("=== 관리자 데이터 내보내기: type={}, format={}, gzip={} ===", type, format, gzip);
+
+        try {
+            adminExportService.validate(type, format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        String filename = "mydiet-" + type + "-" + LocalDate.now() + "." + format + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.parseMediaType(format.equals("csv") ? "text/csv;charset=UTF-8" : "application/x-ndjson");
+
+        StreamingResponseBody body = outputStream -> {
+            long rows = adminExportService.export(type, format, gzip, outputStream);
+            log.info("데이터 내보내기 완료: {}건", rows);
+        };
+
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+
     @GetMapping("/users")
-    public ResponseEntity<List<Map<String, Object>>> getAllUsers() {
+    public ResponseEntity<Map<String, Object>> getUsers(
+        @RequestParam(required = false) String role,
+        @RequestParam(required = false) String provider,
+        @RequestParam(required = false) String emailPrefix,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String direction,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size) {
         log.info("=== 관리자 사용자 목록 요청 ===");
         
         try {
-            List<Map<String, Object>> users = adminService.getAllUsers();
-            log.info("사용자 목록 조회 성공: {} 명", users.size());
-            return ResponseEntity.ok(users);
+            KeysetPage page = adminService.getUsersPage(role, provider, emailPrefix, sort, direction, cursor, size);
+            log.info("사용자 목록 조회 성공: {} 명", page.getSize());
+            return ResponseEntity.ok(toResponse(page, "users"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("사용자 목록 조회 실패", e);
-            return ResponseEntity.status(500).body(null);
+            return ResponseEntity.status(500).body(
+                Map.of("error", "사용자 목록 조회 실패: " + e.getMessage())
+            );
         }
     }
 
+    private Map<String, Object> toResponse(KeysetPage page, String type) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("type", type);
+        response.put("items", page.getItems());
+        response.put("size", page.getSize());
+        response.put("hasNext", page.isHasNext());
+        response.put("nextCursor", page.getNextCursor());
+        return response;
+    }
+
     @DeleteMapping("/users/{userId}")
-    @Transactional
-    public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable Long userId) {
-        log.info("=== 관리자 사용자 삭제 요청: userId={} ===", userId);
+    public ResponseEntity<Map<String, Object>> deleteUser(
+        @PathVariable Long userId,
+        @RequestParam(defaultValue = "false") boolean async) {
+        log.info("=== 관리자 사용자 삭제 요청: userId={}, async={} ===", userId, async);
         
         try {
             if (!userRepository.existsById(userId)) {
@@ -83,42 +153,20 @@ public class AdminController {
                 ));
             }
 
-            log.info("사용자 관련 데이터 삭제 시작: userId={}", userId);
-            
-            List<com.mydiet.model.MealLog> meals = mealLogRepository.findByUserId(userId);
-            int deletedMeals = meals.size();
-            for (com.mydiet.model.MealLog meal : meals) {
-                mealLogRepository.delete(meal);
-            }
-            log.info("식단 기록 {}개 삭제", deletedMeals);
-            
-            List<com.mydiet.model.WorkoutLog> workouts = workoutLogRepository.findByUserId(userId);
-            int deletedWorkouts = workouts.size();
-            for (com.mydiet.model.WorkoutLog workout : workouts) {
-                workoutLogRepository.delete(workout);
-            }
-            log.info("운동 기록 {}개 삭제", deletedWorkouts);
-            
-            List<com.mydiet.model.EmotionLog> emotions = emotionLogRepository.findByUserId(userId);
-            int deletedEmotions = emotions.size();
-            for (com.mydiet.model.EmotionLog emotion : emotions) {
-                emotionLogRepository.delete(emotion);
+            if (async) {
+                accountDeletionService.deleteAccountInChunks(userId);
+                return ResponseEntity.accepted().body(Map.of(
+                    "success", true,
+                    "message", "사용자 삭제가 백그라운드에서 진행됩니다"
+                ));
             }
-            log.info("감정 기록 {}개 삭제", deletedEmotions);
-            
-            userRepository.deleteById(userId);
-            
-            log.info("사용자 삭제 완료: userId={}, 관련 데이터 - 식단:{}, 운동:{}, 감정:{}", 
-                    userId, deletedMeals, deletedWorkouts, deletedEmotions);
+
+            Map<String, Integer> deletedData = accountDeletionService.deleteAccount(userId);
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "사용자가 성공적으로 삭제되었습니다",
-                "deletedData", Map.of(
-                    "meals", deletedMeals,
-                    "workouts", deletedWorkouts,
-                    "emotions", deletedEmotions
-                )
+                "deletedData", deletedData
             ));
             
         } catch (Exception e) {
@@ -146,6 +194,57 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/daily-summary/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildDailySummary() {
+        log.info("=== 일일 요약 재생성 요청 ===");
+        
+        try {
+            int rows = dailySummaryService.rebuildAll();
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "rows", rows
+            ));
+        } catch (Exception e) {
+            log.error("일일 요약 재생성 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "error", "일일 요약 재생성에 실패했습니다: " + e.getMessage()
+            ));
+        }
+    }
+
+    @GetMapping("/ai/pregeneration")
+    public ResponseEntity<Map<String, Object>> getPregenerationStats() {
+        return ResponseEntity.ok(dailyAdvicePregenerationService.getStats().toMap());
+    }
+
+    @PostMapping("/ai/pregeneration")
+    public ResponseEntity<Map<String, Object>> runPregeneration() {
+        log.info("=== 일일 조언 사전 생성 수동 실행 요청 ===");
+        
+        if (dailyAdvicePregenerationService.isRunning()) {
+            return ResponseEntity.status(409).body(Map.of(
+                "success", false,
+                "error", "일일 조언 사전 생성이 이미 실행 중입니다."
+            ));
+        }
+        dailyAdvicePregenerationService.runAsync(LocalDate.now());
+        return ResponseEntity.accepted().body(Map.of(
+            "success", true,
+            "message", "일일 조언 사전 생성을 시작했습니다."
+        ));
+    }
+
+    @GetMapping("/ai/answer-cache")
+    public ResponseEntity<Map<String, Object>> getAnswerCacheStats() {
+        return ResponseEntity.ok(semanticAnswerCache.getStats());
+    }
+
+    @GetMapping("/ai/response-writer")
+    public ResponseEntity<Map<String, Object>> getResponseWriterStats() {
+        return ResponseEntity.ok(claudeResponseWriter.getStats());
+    }
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> healthCheck() {
         log.info("=== 관리자 API 상태 확인 ===");
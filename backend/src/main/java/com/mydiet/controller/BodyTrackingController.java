@@ -1,17 +1,13 @@
 package com.mydiet.controller;
 
-import com.mydiet.model.User;
-import com.mydiet.repository.UserRepository;
-import javax.servlet.http.HttpSession;
+import com.mydiet.config.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -20,32 +16,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class BodyTrackingController {
 
-    private final UserRepository userRepository;
-
-    private Long getCurrentUserId(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        
-        if (!Boolean.TRUE.equals(authenticated) || userId == null) {
-            List<User> users = userRepository.findAll();
-            if (!users.isEmpty()) {
-                return users.get(0).getId();
-            }
-            return null;
-        }
-        return userId;
-    }
-
     @PostMapping("/body-photo")
     public ResponseEntity<Map<String, Object>> saveBodyPhoto(
         @RequestBody Map<String, Object> request,
-        HttpSession session) {
+        @CurrentUser Long userId) {
         
         log.info("=== 바디 사진 저장 요청 ===");
         log.info("요청 데이터 키: {}", request.keySet());
 
         try {
-            Long userId = getCurrentUserId(session);
             if (userId == null) {
                 return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
             }
@@ -84,13 +63,12 @@ public class BodyTrackingController {
     @PostMapping("/inbody")
     public ResponseEntity<Map<String, Object>> saveInbodyData(
         @RequestBody Map<String, Object> request,
-        HttpSession session) {
+        @CurrentUser Long userId) {
         
         log.info("=== 인바디 데이터 저장 요청 ===");
         log.info("요청 데이터: {}", request);
 
         try {
-            Long userId = getCurrentUserId(session);
             if (userId == null) {
                 return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
             }
@@ -148,12 +126,11 @@ public class BodyTrackingController {
     }
 
     @GetMapping("/body-tracking/stats")
-    public ResponseEntity<Map<String, Object>> getBodyTrackingStats(HttpSession session) {
+    public ResponseEntity<Map<String, Object>> getBodyTrackingStats(@CurrentUser Long userId) {
         
         log.info("=== 바디트래킹 통계 조회 ===");
 
         try {
-            Long userId = getCurrentUserId(session);
             if (userId == null) {
                 return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
             }
@@ -1,11 +1,13 @@
 package com.mydiet.controller;
 import com.mydiet.model.Role;
 import com.mydiet.config.ClaudeApiClient;
+import com.mydiet.service.ClaudeHealthMonitor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -16,6 +18,7 @@ import java.util.Map;
 public class ClaudeTestController {
 
     private final ClaudeApiClient claudeApiClient;
+    private final ClaudeHealthMonitor claudeHealthMonitor;
     
     @Value("${claude.api.key}")
     private String apiKey;
@@ -25,26 +28,25 @@ public class ClaudeTestController {
         return ResponseEntity.ok(Map.of(
             "apiKeyConfigured", apiKey != null && !apiKey.trim().isEmpty() && !apiKey.startsWith("${"),
             "apiKeyLength", apiKey != null ? apiKey.length() : 0,
-            "apiKeyPrefix", apiKey != null && apiKey.length() > 10 ? apiKey.substring(0, 10) + "..." : "null"
+            "apiKeyPrefix", apiKey != null && apiKey.length() > 10 ? apiKey.substring(0, 10) + "..." : "null",
+            "health", claudeHealthMonitor.getHealth().toMap()
         ));
     }
 
     @GetMapping("/hello")
-    public ResponseEntity<String> testClaude() {
+    public Mono<ResponseEntity<String>> testClaude() {
         log.info("=== Claude 테스트 시작 ===");
         String prompt = "안녕하세요! 한 문장으로 인사해주세요.";
-        String response = claudeApiClient.askClaude(prompt);
-        return ResponseEntity.ok(response);
+        return claudeApiClient.askClaudeAsync(prompt).map(ResponseEntity::ok);
     }
 
     @PostMapping("/simple")
-    public ResponseEntity<String> testSimple(@RequestBody Map<String, String> request) {
+    public Mono<ResponseEntity<String>> testSimple(@RequestBody Map<String, String> request) {
         String question = request.get("question");
         if (question == null || question.trim().isEmpty()) {
             question = "안녕하세요!";
         }
         
-        String response = claudeApiClient.askClaude(question);
-        return ResponseEntity.ok(response);
+        return claudeApiClient.askClaudeAsync(question).map(ResponseEntity::ok);
     }
 }
\ No newline at end of file
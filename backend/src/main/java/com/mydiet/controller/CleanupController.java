@@ -2,6 +2,7 @@ package com.mydiet.controller;
 
 import com.mydiet.model.User;
 import com.mydiet.repository.UserRepository;
+import com.mydiet.service.AccountDeletionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 public class CleanupController {
 
     private final UserRepository userRepository;
+    private final AccountDeletionService accountDeletionService;
 
     @PostMapping("/cleanup-duplicates")
     public ResponseEntity<Map<String, Object>> cleanupDuplicateUsers() {
@@ -40,7 +42,7 @@ public class CleanupController {
                     User keepUser = users.get(0);
                     for (int i = 1; i < users.size(); i++) {
                         User deleteUser = users.get(i);
-                        userRepository.delete(deleteUser);
+                        accountDeletionService.deleteAccount(deleteUser.getId());
                         deletedCount++;
                         log.info("중복 사용자 삭제: ID={}, 이메일={}", deleteUser.getId(), deleteUser.getEmail());
                     }
@@ -1,8 +1,10 @@
 package com.mydiet.controller;
 import com.mydiet.model.Role;
-import com.mydiet.repository.MealLogRepository;
-import com.mydiet.repository.EmotionLogRepository;
-import com.mydiet.repository.WorkoutLogRepository;
+import com.mydiet.config.CurrentUser;
+import com.mydiet.dto.TodaySnapshot;
+import com.mydiet.model.UserDailySummary;
+import com.mydiet.service.DailySnapshotService;
+import com.mydiet.service.DailySummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -18,9 +20,8 @@ import java.util.HashMap;
 @RequiredArgsConstructor
 public class DashboardController {
     
-    private final MealLogRepository mealLogRepository;
-    private final EmotionLogRepository emotionLogRepository;
-    private final WorkoutLogRepository workoutLogRepository;
+    private final DailySnapshotService dailySnapshotService;
+    private final DailySummaryService dailySummaryService;
     
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
@@ -30,17 +31,14 @@ public class DashboardController {
             Long userId = 1L;
             LocalDate today = LocalDate.now();
             
-            var meals = mealLogRepository.findByUserIdAndDate(userId, today);
-            var workouts = workoutLogRepository.findByUserIdAndDate(userId, today);
-            var emotions = emotionLogRepository.findByUserIdAndDate(userId, today);
+            TodaySnapshot snapshot = dailySnapshotService.getSnapshot(userId, today)
+                .orElseGet(() -> TodaySnapshot.empty(today));
+            var meals = snapshot.getMeals();
+            var workouts = snapshot.getWorkouts();
+            var emotions = snapshot.getEmotions();
             
-            int totalCalories = meals.stream()
-                .mapToInt(meal -> meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0)
-                .sum();
-            
-            int burnedCalories = workouts.stream()
-                .mapToInt(workout -> workout.getCaloriesBurned() != null ? workout.getCaloriesBurned() : 0)
-                .sum();
+            int totalCalories = snapshot.getTotalCalories();
+            int burnedCalories = snapshot.getTotalCaloriesBurned();
             
             double goalAchievement = totalCalories > 0 ? Math.min((double) totalCalories / 2000 * 100, 100) : 0;
             
@@ -90,4 +88,35 @@ public class DashboardController {
             ));
         }
     }
+
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getDailySummary(@CurrentUser Long userId) {
+        if (userId == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            UserDailySummary summary = dailySummaryService.getTodaySummary(userId);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("date", summary.getDate());
+            result.put("mealCount", summary.getMealCount());
+            result.put("workoutCount", summary.getWorkoutCount());
+            result.put("emotionCount", summary.getEmotionCount());
+            result.put("totalCalories", summary.getKcalIn());
+            result.put("burnedCalories", summary.getKcalBurned());
+            result.put("netCalories", summary.getKcalIn() - summary.getKcalBurned());
+            result.put("workoutMinutes", summary.getWorkoutMinutes());
+            result.put("lastMood", summary.getLastMood());
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            log.error("일일 요약 조회 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "error", e.getMessage(),
+                "message", "요약 조회에 실패했습니다"
+            ));
+        }
+    }
 }
\ No newline at end of file
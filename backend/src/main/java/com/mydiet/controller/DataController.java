@@ -1,6 +1,9 @@
 package com.mydiet.controller;
 
 import com.mydiet.repository.*;
+import com.mydiet.service.EmotionService;
+import com.mydiet.service.MealService;
+import com.mydiet.service.WorkoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,12 +22,16 @@ public class DataController {
     private final MealLogRepository mealLogRepository;
     private final WorkoutLogRepository workoutLogRepository;
     private final EmotionLogRepository emotionLogRepository;
+    private final MealService mealService;
+    private final WorkoutService workoutService;
+    private final EmotionService emotionService;
     
     @DeleteMapping("/meal/{id}")
     public ResponseEntity<Map<String, Object>> deleteMeal(@PathVariable Long id) {
         try {
-            if (mealLogRepository.existsById(id)) {
-                mealLogRepository.deleteById(id);
+            var meal = mealLogRepository.findById(id);
+            if (meal.isPresent()) {
+                mealService.delete(meal.get());
                 return ResponseEntity.ok(Map.of("success", true, "message", "식단이 삭제되었습니다."));
             } else {
                 return ResponseEntity.notFound().build();
@@ -39,8 +46,9 @@ public class DataController {
     @DeleteMapping("/workout/{id}")
     public ResponseEntity<Map<String, Object>> deleteWorkout(@PathVariable Long id) {
         try {
-            if (workoutLogRepository.existsById(id)) {
-                workoutLogRepository.deleteById(id);
+            var workout = workoutLogRepository.findById(id);
+            if (workout.isPresent()) {
+                workoutService.delete(workout.get());
                 return ResponseEntity.ok(Map.of("success", true, "message", "운동이 삭제되었습니다."));
             } else {
                 return ResponseEntity.notFound().build();
@@ -55,8 +63,9 @@ public class DataController {
     @DeleteMapping("/emotion/{id}")
     public ResponseEntity<Map<String, Object>> deleteEmotion(@PathVariable Long id) {
         try {
-            if (emotionLogRepository.existsById(id)) {
-                emotionLogRepository.deleteById(id);
+            var emotion = emotionLogRepository.findById(id);
+            if (emotion.isPresent()) {
+                emotionService.delete(emotion.get());
                 return ResponseEntity.ok(Map.of("success", true, "message", "감정이 삭제되었습니다."));
             } else {
                 return ResponseEntity.notFound().build();
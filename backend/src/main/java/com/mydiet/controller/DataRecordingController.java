@@ -1,8 +1,8 @@
 package com.mydiet.controller;
 
-import com.mydiet.model.*;
-import com.mydiet.repository.*;
-import javax.servlet.http.HttpSession;
+import com.mydiet.config.CurrentUser;
+import com.mydiet.dto.TodaySnapshot;
+import com.mydiet.service.DailySnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,32 +19,14 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class DataRecordingController {
 
-    private final UserRepository userRepository;
-    private final MealLogRepository mealLogRepository;
-    private final WorkoutLogRepository workoutLogRepository;
-    private final EmotionLogRepository emotionLogRepository;
-
-    private Long getCurrentUserId(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        
-        if (!Boolean.TRUE.equals(authenticated) || userId == null) {
-            List<User> users = userRepository.findAll();
-            if (!users.isEmpty()) {
-                return users.get(0).getId();
-            }
-            return null;
-        }
-        return userId;
-    }
+    private final DailySnapshotService dailySnapshotService;
 
     @GetMapping("/today")
-    public ResponseEntity<Map<String, Object>> getTodayData(HttpSession session) {
+    public ResponseEntity<Map<String, Object>> getTodayData(@CurrentUser Long userId) {
         
         log.info("=== 오늘 데이터 조회 요청 ===");
         
         try {
-            Long userId = getCurrentUserId(session);
             if (userId == null) {
                 return ResponseEntity.badRequest().body(Map.of("error", "사용자를 찾을 수 없습니다"));
             }
@@ -52,9 +34,11 @@ public class DataRecordingController {
             LocalDate today = LocalDate.now();
             log.info("사용자 ID: {}, 조회 날짜: {}", userId, today);
             
-            List<MealLog> meals = mealLogRepository.findByUserIdAndDate(userId, today);
-            List<WorkoutLog> workouts = workoutLogRepository.findByUserIdAndDate(userId, today);
-            List<EmotionLog> emotions = emotionLogRepository.findByUserIdAndDate(userId, today);
+            TodaySnapshot snapshot = dailySnapshotService.getSnapshot(userId, today)
+                .orElseGet(() -> TodaySnapshot.empty(today));
+            List<TodaySnapshot.MealItem> meals = snapshot.getMeals();
+            List<TodaySnapshot.WorkoutItem> workouts = snapshot.getWorkouts();
+            List<TodaySnapshot.EmotionItem> emotions = snapshot.getEmotions();
             
             Map<String, Object> todayData = new HashMap<>();
             todayData.put("meals", meals);
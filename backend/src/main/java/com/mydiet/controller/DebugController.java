@@ -1,5 +1,6 @@
 package com.mydiet.controller;
 
+import com.mydiet.dto.ActivityStats;
 import com.mydiet.model.*;
 import com.mydiet.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class DebugController {
     private final MealLogRepository mealLogRepository;
     private final WorkoutLogRepository workoutLogRepository;
     private final EmotionLogRepository emotionLogRepository;
+    private final StatsQueryRepository statsQueryRepository;
 
     @GetMapping("/user-data/{userId}")
     public ResponseEntity<Map<String, Object>> getUserData(@PathVariable Long userId) {
@@ -54,50 +56,21 @@ public class DebugController {
             LocalDate today = LocalDate.now();
             LocalDate weekStart = today.minusDays(7);
 
-            long totalUsers = userRepository.count();
-            long totalMeals = mealLogRepository.count();
-            long totalWorkouts = workoutLogRepository.count();
-            long totalEmotions = emotionLogRepository.count();
-
-            List<MealLog> todayMealsList = mealLogRepository.findAll().stream()
-                .filter(meal -> meal.getDate().equals(today))
-                .toList();
-            List<WorkoutLog> todayWorkoutsList = workoutLogRepository.findAll().stream()
-                .filter(workout -> workout.getDate().equals(today))
-                .toList();
-            List<EmotionLog> todayEmotionsList = emotionLogRepository.findAll().stream()
-                .filter(emotion -> emotion.getDate().equals(today))
-                .toList();
-
-            long todayMeals = todayMealsList.size();
-            long todayWorkouts = todayWorkoutsList.size();
-            long todayEmotions = todayEmotionsList.size();
-
-            List<MealLog> weekMealsList = mealLogRepository.findAll().stream()
-                .filter(meal -> !meal.getDate().isBefore(weekStart) && !meal.getDate().isAfter(today))
-                .toList();
-            List<WorkoutLog> weekWorkoutsList = workoutLogRepository.findAll().stream()
-                .filter(workout -> !workout.getDate().isBefore(weekStart) && !workout.getDate().isAfter(today))
-                .toList();
-            List<EmotionLog> weekEmotionsList = emotionLogRepository.findAll().stream()
-                .filter(emotion -> !emotion.getDate().isBefore(weekStart) && !emotion.getDate().isAfter(today))
-                .toList();
-
-            long weekMeals = weekMealsList.size();
-            long weekWorkouts = weekWorkoutsList.size();
-            long weekEmotions = weekEmotionsList.size();
+            ActivityStats activity = statsQueryRepository.findActivityStats(today, weekStart);
 
             Map<String, Object> stats = new HashMap<>();
-            stats.put("totalUsers", totalUsers);
-            stats.put("totalMeals", totalMeals);
-            stats.put("totalWorkouts", totalWorkouts);
-            stats.put("totalEmotions", totalEmotions);
-            stats.put("todayMeals", todayMeals);
-            stats.put("todayWorkouts", todayWorkouts);
-            stats.put("todayEmotions", todayEmotions);
-            stats.put("weekMeals", weekMeals);
-            stats.put("weekWorkouts", weekWorkouts);
-            stats.put("weekEmotions", weekEmotions);
+            stats.put("totalUsers", activity.getTotalUsers());
+            stats.put("totalMeals", activity.getTotalMeals());
+            stats.put("totalWorkouts", activity.getTotalWorkouts());
+            stats.put("totalEmotions", activity.getTotalEmotions());
+            stats.put("todayMeals", activity.getTodayMeals());
+            stats.put("todayWorkouts", activity.getTodayWorkouts());
+            stats.put("todayEmotions", activity.getTodayEmotions());
+            stats.put("weekMeals", activity.getWeekMeals());
+            stats.put("weekWorkouts", activity.getWeekWorkouts());
+            stats.put("weekEmotions", activity.getWeekEmotions());
+            stats.put("todayActiveUsers", activity.getTodayActiveUsers());
+            stats.put("weekActiveUsers", activity.getWeekActiveUsers());
 
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
@@ -1,15 +1,17 @@
 package com.mydiet.controller;
 
+import com.mydiet.config.CurrentUser;
 import com.mydiet.model.*;
 import com.mydiet.repository.*;
-import javax.servlet.http.HttpSession;
+import com.mydiet.service.DailySummaryService;
+import com.mydiet.service.EmotionService;
+import com.mydiet.service.MealService;
+import com.mydiet.service.WorkoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -19,31 +21,19 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DeleteController {
 
-    private final UserRepository userRepository;
     private final MealLogRepository mealLogRepository;
     private final WorkoutLogRepository workoutLogRepository;
     private final EmotionLogRepository emotionLogRepository;
-
-    private Long getCurrentUserId(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        
-        if (!Boolean.TRUE.equals(authenticated) || userId == null) {
-            List<User> users = userRepository.findAll();
-            if (!users.isEmpty()) {
-                return users.get(0).getId();
-            }
-            return null;
-        }
-        return userId;
-    }
+    private final DailySummaryService dailySummaryService;
+    private final MealService mealService;
+    private final WorkoutService workoutService;
+    private final EmotionService emotionService;
 
     @DeleteMapping("/meal/{id}")
-    public ResponseEntity<Map<String, Object>> deleteMeal(@PathVariable Long id, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> deleteMeal(@PathVariable Long id, @CurrentUser Long userId) {
         log.info("=== 식단 삭제: ID={} ===", id);
 
         try {
-            Long userId = getCurrentUserId(session);
             
             Optional<MealLog> mealOpt = mealLogRepository.findById(id);
             if (mealOpt.isEmpty()) {
@@ -61,7 +51,7 @@ public class DeleteController {
                 ));
             }
 
-            mealLogRepository.delete(meal);
+            mealService.delete(meal);
             log.info("식단 삭제 완료: {}", meal.getDescription());
 
             return ResponseEntity.ok(Map.of(
@@ -79,11 +69,10 @@ public class DeleteController {
     }
 
     @DeleteMapping("/workout/{id}")
-    public ResponseEntity<Map<String, Object>> deleteWorkout(@PathVariable Long id, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> deleteWorkout(@PathVariable Long id, @CurrentUser Long userId) {
         log.info("=== 운동 삭제: ID={} ===", id);
 
         try {
-            Long userId = getCurrentUserId(session);
             
             Optional<WorkoutLog> workoutOpt = workoutLogRepository.findById(id);
             if (workoutOpt.isEmpty()) {
@@ -101,7 +90,7 @@ public class DeleteController {
                 ));
             }
 
-            workoutLogRepository.delete(workout);
+            workoutService.delete(workout);
             log.info("운동 삭제 완료: {}", workout.getType());
 
             return ResponseEntity.ok(Map.of(
@@ -119,11 +108,10 @@ public class DeleteController {
     }
 
     @DeleteMapping("/emotion/{id}")
-    public ResponseEntity<Map<String, Object>> deleteEmotion(@PathVariable Long id, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> deleteEmotion(@PathVariable Long id, @CurrentUser Long userId) {
         log.info("=== 감정 삭제: ID={} ===", id);
 
         try {
-            Long userId = getCurrentUserId(session);
             
             Optional<EmotionLog> emotionOpt = emotionLogRepository.findById(id);
             if (emotionOpt.isEmpty()) {
@@ -141,7 +129,7 @@ public class DeleteController {
                 ));
             }
 
-            emotionLogRepository.delete(emotion);
+            emotionService.delete(emotion);
             log.info("감정 삭제 완료: {}", emotion.getMood());
 
             return ResponseEntity.ok(Map.of(
@@ -159,20 +147,14 @@ public class DeleteController {
     }
 
     @DeleteMapping("/all/today")
-    public ResponseEntity<Map<String, Object>> deleteTodayAll(HttpSession session) {
+    public ResponseEntity<Map<String, Object>> deleteTodayAll(@CurrentUser Long userId) {
         log.info("=== 오늘 모든 데이터 삭제 ===");
 
         try {
-            Long userId = getCurrentUserId(session);
-            LocalDate today = LocalDate.now();
-            
-            List<MealLog> todayMeals = mealLogRepository.findByUserIdAndDate(userId, today);
-            List<WorkoutLog> todayWorkouts = workoutLogRepository.findByUserIdAndDate(userId, today);
-            List<EmotionLog> todayEmotions = emotionLogRepository.findByUserIdAndDate(userId, today);
-            
-            int mealCount = todayMeals.size();
-            int workoutCount = todayWorkouts.size();
-            int emotionCount = todayEmotions.size();
+            Map<String, Integer> deleted = dailySummaryService.deleteToday(userId);
+            int mealCount = deleted.get("meals");
+            int workoutCount = deleted.get("workouts");
+            int emotionCount = deleted.get("emotions");
             int totalCount = mealCount + workoutCount + emotionCount;
 
             if (totalCount == 0) {
@@ -182,10 +164,6 @@ public class DeleteController {
                     "deletedCount", 0
                 ));
             }
-
-            mealLogRepository.deleteAll(todayMeals);
-            workoutLogRepository.deleteAll(todayWorkouts);
-            emotionLogRepository.deleteAll(todayEmotions);
             
             log.info("오늘 모든 데이터 삭제 완료 - 식단: {}개, 운동: {}개, 감정: {}개", 
                     mealCount, workoutCount, emotionCount);
@@ -2,6 +2,7 @@ package com.mydiet.controller;
 
 import com.mydiet.model.User;
 import com.mydiet.repository.UserRepository;
+import com.mydiet.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ import java.util.Map;
 public class FixedProfileController {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     private User getFirstUser() {
         List<User> users = userRepository.findAll();
@@ -94,6 +96,7 @@ public class FixedProfileController {
             
             user.setUpdatedAt(LocalDateTime.now());
             userRepository.save(user);
+            currentUserService.evict(user.getId());
             
             log.info("프로필 저장 성공");
             
@@ -1,15 +1,19 @@
 package com.mydiet.controller;
 
+import com.mydiet.config.CurrentUser;
+import com.mydiet.dto.BatchSaveItem;
 import com.mydiet.model.*;
-import com.mydiet.repository.*;
-import javax.servlet.http.HttpSession;
+import com.mydiet.service.BatchSaveService;
+import com.mydiet.service.EmotionService;
+import com.mydiet.service.MealService;
+import com.mydiet.service.WorkoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -19,42 +23,22 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class IntegratedSaveController {
 
-    private final UserRepository userRepository;
-    private final MealLogRepository mealLogRepository;
-    private final WorkoutLogRepository workoutLogRepository;
-    private final EmotionLogRepository emotionLogRepository;
-
-    private Long getCurrentUserId(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        
-        if (!Boolean.TRUE.equals(authenticated) || userId == null) {
-            List<User> users = userRepository.findAll();
-            if (!users.isEmpty()) {
-                return users.get(0).getId();
-            }
-            return null;
-        }
-        return userId;
-    }
+    private final MealService mealService;
+    private final WorkoutService workoutService;
+    private final EmotionService emotionService;
+    private final BatchSaveService batchSaveService;
 
     @PostMapping("/meal")
     public ResponseEntity<Map<String, Object>> saveMeal(
         @RequestBody Map<String, Object> request,
-        HttpSession session) {
+        @CurrentUser User user) {
         
         log.info("=== 식단 저장 요청 ===");
         log.info("요청 데이터: {}", request);
 
         try {
-            Long userId = getCurrentUserId(session);
-            if (userId == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
-            }
-
-            User user = userRepository.findById(userId).orElse(null);
             if (user == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "사용자를 찾을 수 없습니다"));
+                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
             }
 
             String description = request.get("description") != null ? request.get("description").toString() : "";
@@ -69,7 +53,7 @@ public class IntegratedSaveController {
 
             log.info("저장할 식단: {} - {}kcal", description, calories);
 
-            MealLog saved = mealLogRepository.save(meal);
+            MealLog saved = mealService.save(meal);
             log.info("식단 저장 성공: ID={}", saved.getId());
 
             return ResponseEntity.ok(Map.of(
@@ -90,20 +74,14 @@ public class IntegratedSaveController {
     @PostMapping("/workout")
     public ResponseEntity<Map<String, Object>> saveWorkout(
         @RequestBody Map<String, Object> request,
-        HttpSession session) {
+        @CurrentUser User user) {
         
         log.info("=== 운동 저장 요청 ===");
         log.info("요청 데이터: {}", request);
 
         try {
-            Long userId = getCurrentUserId(session);
-            if (userId == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
-            }
-
-            User user = userRepository.findById(userId).orElse(null);
             if (user == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "사용자를 찾을 수 없습니다"));
+                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
             }
 
             String type = request.get("type") != null ? request.get("type").toString() : "";
@@ -121,7 +99,7 @@ public class IntegratedSaveController {
 
             log.info("저장할 운동: {} - {}분, {}kcal", type, duration, calories);
 
-            WorkoutLog saved = workoutLogRepository.save(workout);
+            WorkoutLog saved = workoutService.save(workout);
             log.info("운동 저장 성공: ID={}", saved.getId());
 
             return ResponseEntity.ok(Map.of(
@@ -142,20 +120,14 @@ public class IntegratedSaveController {
     @PostMapping("/emotion")
     public ResponseEntity<Map<String, Object>> saveEmotion(
         @RequestBody Map<String, Object> request,
-        HttpSession session) {
+        @CurrentUser User user) {
         
         log.info("=== 감정 저장 요청 ===");
         log.info("요청 데이터: {}", request);
 
         try {
-            Long userId = getCurrentUserId(session);
-            if (userId == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
-            }
-
-            User user = userRepository.findById(userId).orElse(null);
             if (user == null) {
-                return ResponseEntity.badRequest().body(Map.of("error", "사용자를 찾을 수 없습니다"));
+                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
             }
 
             String mood = request.get("mood") != null ? request.get("mood").toString() : "";
@@ -169,7 +141,7 @@ public class IntegratedSaveController {
 
             log.info("저장할 감정: {} - {}", mood, note);
 
-            EmotionLog saved = emotionLogRepository.save(emotion);
+            EmotionLog saved = emotionService.save(emotion);
             log.info("감정 저장 성공: ID={}", saved.getId());
 
             return ResponseEntity.ok(Map.of(
@@ -186,4 +158,61 @@ public class IntegratedSaveController {
             ));
         }
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> saveBatch(
+        @RequestBody List<BatchSaveItem> items,
+        @CurrentUser User user) {
+
+        log.info("=== 일괄 저장 요청: {}건 ===", items != null ? items.size() : 0);
+
+        try {
+            if (user == null) {
+                return ResponseEntity.badRequest().body(Map.of("error", "사용자 인증이 필요합니다"));
+            }
+            if (items == null || items.isEmpty()) {
+                return ResponseEntity.badRequest().body(Map.of("success", false, "error", "저장할 항목이 없습니다"));
+            }
+            if (items.size() > BatchSaveService.MAX_ITEMS) {
+                return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", "한 번에 최대 " + BatchSaveService.MAX_ITEMS + "건까지 저장할 수 있습니다"
+                ));
+            }
+
+            Map<Integer, String> errors = batchSaveService.validate(items);
+            if (!errors.isEmpty()) {
+                List<Map<String, Object>> results = new ArrayList<>(items.size());
+                for (int i = 0; i < items.size(); i++) {
+                    String error = errors.get(i);
+                    results.add(error != null
+                        ? Map.of("index", i, "success", false, "error", error)
+                        : Map.of("index", i, "success", true));
+                }
+                log.warn("일괄 저장 검증 실패: {}건", errors.size());
+                return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "error", "유효하지 않은 항목이 있어 저장하지 않았습니다",
+                    "failedCount", errors.size(),
+                    "results", results
+                ));
+            }
+
+            List<Map<String, Object>> results = batchSaveService.saveBatch(user, items);
+
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "message", results.size() + "건이 저장되었습니다",
+                "savedCount", results.size(),
+                "results", results
+            ));
+
+        } catch (Exception e) {
+            log.error("일괄 저장 실패", e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "error", e.getMessage()
+            ));
+        }
+    }
 }
\ No newline at end of file
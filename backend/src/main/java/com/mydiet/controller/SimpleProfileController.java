@@ -1,8 +1,9 @@
 package com.mydiet.controller;
 
+import com.mydiet.config.CurrentUser;
 import com.mydiet.model.User;
 import com.mydiet.repository.UserRepository;
-import javax.servlet.http.HttpSession;
+import com.mydiet.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +11,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -21,40 +21,18 @@ import java.util.Optional;
 public class SimpleProfileController {
 
     private final UserRepository userRepository;
-
-    private Long getCurrentUserId(HttpSession session) {
-        Long userId = (Long) session.getAttribute("userId");
-        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
-        
-        if (!Boolean.TRUE.equals(authenticated) || userId == null) {
-            List<User> users = userRepository.findAll();
-            if (!users.isEmpty()) {
-                return users.get(0).getId();
-            }
-            return null;
-        }
-        return userId;
-    }
+    private final CurrentUserService currentUserService;
 
     @GetMapping("/user")
-    public ResponseEntity<Map<String, Object>> getCurrentUser(HttpSession session) {
+    public ResponseEntity<Map<String, Object>> getCurrentUser(@CurrentUser User user) {
         
         log.info("=== 현재 사용자 정보 조회 ===");
         
         try {
-            Long userId = getCurrentUserId(session);
-            if (userId == null) {
+            if (user == null) {
                 return ResponseEntity.status(401)
                     .body(Map.of("error", "사용자를 찾을 수 없습니다."));
             }
-
-            Optional<User> userOpt = userRepository.findById(userId);
-            if (userOpt.isEmpty()) {
-                return ResponseEntity.status(404)
-                    .body(Map.of("error", "사용자 정보가 없습니다."));
-            }
-
-            User user = userOpt.get();
             
             Map<String, Object> userInfo = new HashMap<>();
             userInfo.put("id", user.getId());
@@ -68,7 +46,7 @@ public class SimpleProfileController {
             userInfo.put("createdAt", user.getCreatedAt());
             userInfo.put("updatedAt", user.getUpdatedAt());
             
-            log.info("사용자 정보 조회 성공: userId={}, nickname={}", userId, user.getNickname());
+            log.info("사용자 정보 조회 성공: userId={}, nickname={}", user.getId(), user.getNickname());
             
             return ResponseEntity.ok(userInfo);
             
@@ -82,13 +60,12 @@ public class SimpleProfileController {
     @PutMapping("/update")
     public ResponseEntity<Map<String, Object>> updateProfile(
         @RequestBody Map<String, Object> request,
-        HttpSession session) {
+        @CurrentUser Long userId) {
         
         log.info("=== 프로필 업데이트 요청 ===");
         log.info("요청 데이터: {}", request);
         
         try {
-            Long userId = getCurrentUserId(session);
             if (userId == null) {
                 return ResponseEntity.status(401)
                     .body(Map.of("error", "사용자를 찾을 수 없습니다."));
@@ -156,6 +133,7 @@ public class SimpleProfileController {
             
             user.setUpdatedAt(LocalDateTime.now());
             User updatedUser = userRepository.save(user);
+            currentUserService.evict(userId);
             
             log.info("✅ 프로필 업데이트 완료: userId={}", userId);
             
@@ -2,6 +2,7 @@ package com.mydiet.controller;
 
 import com.mydiet.model.User;
 import com.mydiet.repository.UserRepository;
+import com.mydiet.service.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,7 @@ import java.util.*;
 public class UserCheckController {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     @PostMapping("/create-default")
     public ResponseEntity<Map<String, Object>> createDefaultUser() {
@@ -116,6 +118,7 @@ public class UserCheckController {
             
             user.setUpdatedAt(LocalDateTime.now());
             User updated = userRepository.save(user);
+            currentUserService.evict(userId);
             
             log.info("사용자 업데이트 완료: {}", updated.getNickname());
             
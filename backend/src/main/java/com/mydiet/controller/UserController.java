@@ -2,6 +2,8 @@ package com.mydiet.controller;
 
 import com.mydiet.model.User;
 import com.mydiet.repository.UserRepository;
+import com.mydiet.service.AccountDeletionService;
+import com.mydiet.service.CurrentUserService;
 import com.mydiet.service.OAuth2UserPrincipal;
 import com.mydiet.dto.UpdateProfileRequest;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,8 @@ import java.util.Optional;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final AccountDeletionService accountDeletionService;
 
 
     @GetMapping("/me")
@@ -114,6 +118,7 @@ public class UserController {
             
             user.setUpdatedAt(LocalDateTime.now());
             User updatedUser = userRepository.save(user);
+            currentUserService.evict(userId);
             
             log.info("✅ 사용자 프로필 업데이트 완료: userId={}, email={}", userId, user.getEmail());
             
@@ -159,7 +164,7 @@ public class UserController {
                     .body(Map.of("error", "관리자 계정은 삭제할 수 없습니다."));
             }
             
-            userRepository.deleteById(userId);
+            accountDeletionService.deleteAccount(userId);
             
             log.info("사용자 계정 삭제 완료: userId={}, email={}", userId, user.getEmail());
             
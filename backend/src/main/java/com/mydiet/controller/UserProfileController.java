@@ -3,6 +3,8 @@ package com.mydiet.controller;
 import com.mydiet.model.User;
 import com.mydiet.repository.UserRepository;
 import com.mydiet.dto.UpdateProfileRequest;
+import com.mydiet.service.AccountDeletionService;
+import com.mydiet.service.CurrentUserService;
 import javax.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +23,8 @@ import java.util.Optional;
 public class UserProfileController {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final AccountDeletionService accountDeletionService;
 
     @GetMapping("/profile")
     public ResponseEntity<Map<String, Object>> getCurrentUserProfile(HttpSession session) {
@@ -130,6 +134,7 @@ public class UserProfileController {
             
             user.setUpdatedAt(LocalDateTime.now());
             User updatedUser = userRepository.save(user);
+            currentUserService.evict(userId);
             
             session.setAttribute("userNickname", updatedUser.getNickname());
             
@@ -179,7 +184,7 @@ public class UserProfileController {
                 return ResponseEntity.notFound().build();
             }
             
-            userRepository.deleteById(userId);
+            accountDeletionService.deleteAccount(userId);
             session.invalidate();
             
             log.info("✅ 계정 삭제 완료: userId={}", userId);
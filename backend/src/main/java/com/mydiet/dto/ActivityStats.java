@@ -0,0 +1,21 @@
+package com.mydiet.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ActivityStats {
+    long totalUsers;
+    long totalMeals;
+    long totalWorkouts;
+    long totalEmotions;
+    long todayMeals;
+    long todayWorkouts;
+    long todayEmotions;
+    long weekMeals;
+    long weekWorkouts;
+    long weekEmotions;
+    long todayActiveUsers;
+    long weekActiveUsers;
+}
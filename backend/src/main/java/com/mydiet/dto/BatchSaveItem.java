@@ -0,0 +1,24 @@
+package com.mydiet.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class BatchSaveItem {
+    private String kind;
+    private LocalDate date;
+
+    private String description;
+    private String photoUrl;
+
+    private String type;
+    private String intensity;
+    private Integer duration;
+
+    private Integer calories;
+
+    private String mood;
+    private String note;
+    private Integer stressLevel;
+}
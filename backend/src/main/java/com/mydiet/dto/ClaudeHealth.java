@@ -0,0 +1,51 @@
+package com.mydiet.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Value
+public class ClaudeHealth {
+
+    public enum Status { UP, DEGRADED, DOWN, UNKNOWN, DISABLED }
+
+    Status status;
+    String circuitState;
+    int samples;
+    int failureRate;
+    int consecutiveFailures;
+    long p50Millis;
+    long p90Millis;
+    long p99Millis;
+    long maxMillis;
+    LocalDateTime lastSuccessAt;
+    LocalDateTime lastFailureAt;
+    String lastError;
+    LocalDateTime checkedAt;
+
+    public static ClaudeHealth unknown() {
+        return new ClaudeHealth(Status.UNKNOWN, "CLOSED", 0, 0, 0, 0, 0, 0, 0, null, null, null, LocalDateTime.now());
+    }
+
+    public boolean isAvailable() {
+        return status != Status.DOWN && status != Status.DISABLED;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("health", status.name());
+        map.put("available", isAvailable());
+        map.put("circuitState", circuitState);
+        map.put("samples", samples);
+        map.put("failureRate", failureRate);
+        map.put("consecutiveFailures", consecutiveFailures);
+        map.put("latencyMs", Map.of("p50", p50Millis, "p90", p90Millis, "p99", p99Millis, "max", maxMillis));
+        map.put("lastSuccessAt", lastSuccessAt != null ? lastSuccessAt.toString() : null);
+        map.put("lastFailureAt", lastFailureAt != null ? lastFailureAt.toString() : null);
+        map.put("lastError", lastError);
+        map.put("checkedAt", checkedAt.toString());
+        return map;
+    }
+}
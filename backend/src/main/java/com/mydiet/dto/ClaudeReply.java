@@ -0,0 +1,20 @@
+package com.mydiet.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class ClaudeReply {
+    String text;
+    String model;
+    String stopReason;
+    int inputTokens;
+    int outputTokens;
+    int cacheReadInputTokens;
+    int cacheCreationInputTokens;
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+}
@@ -0,0 +1,59 @@
+package com.mydiet.dto;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+@Value
+@Builder
+public class ClaudeRequest {
+    String model;
+    @Builder.Default
+    int maxTokens = 1000;
+    @Singular
+    List<SystemBlock> systemBlocks;
+    @Singular
+    List<Message> messages;
+    Duration timeout;
+
+    public static ClaudeRequest of(String model, String system, String userMessage) {
+        ClaudeRequestBuilder builder = ClaudeRequest.builder()
+            .model(model)
+            .message(Message.user(userMessage));
+        if (system != null) {
+            builder.systemBlock(SystemBlock.plain(system));
+        }
+        return builder.build();
+    }
+
+    @Value
+    public static class SystemBlock {
+        String text;
+        boolean cached;
+
+        public static SystemBlock plain(String text) {
+            return new SystemBlock(text, false);
+        }
+
+        public static SystemBlock cached(String text) {
+            return new SystemBlock(text, true);
+        }
+    }
+
+    @Value
+    public static class Message {
+        String role;
+        String content;
+
+        public static Message user(String content) {
+            return new Message("user", content);
+        }
+
+        public static Message assistant(String content) {
+            return new Message("assistant", content);
+        }
+    }
+}
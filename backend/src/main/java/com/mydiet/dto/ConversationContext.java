@@ -0,0 +1,20 @@
+package com.mydiet.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class ConversationContext {
+    String summary;
+    List<ClaudeRequest.Message> turns;
+    int estimatedTokens;
+
+    public static ConversationContext empty() {
+        return new ConversationContext(null, List.of(), 0);
+    }
+
+    public boolean isEmpty() {
+        return summary == null && turns.isEmpty();
+    }
+}
@@ -0,0 +1,14 @@
+package com.mydiet.dto;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+public class KeysetPage {
+    List<Map<String, Object>> items;
+    String nextCursor;
+    boolean hasNext;
+    int size;
+}
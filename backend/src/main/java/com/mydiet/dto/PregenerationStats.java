@@ -0,0 +1,51 @@
+package com.mydiet.dto;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Value
+public class PregenerationStats {
+
+    boolean running;
+    LocalDate targetDate;
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+    long processed;
+    long succeeded;
+    long failed;
+    long skipped;
+    String lastError;
+
+    public static PregenerationStats idle() {
+        return new PregenerationStats(false, null, null, null, 0, 0, 0, 0, null);
+    }
+
+    public long getUsersPerMinute() {
+        if (startedAt == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long elapsedSeconds = Math.max(1, Duration.between(startedAt, end).getSeconds());
+        return processed * 60 / elapsedSeconds;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("running", running);
+        map.put("targetDate", targetDate != null ? targetDate.toString() : null);
+        map.put("startedAt", startedAt != null ? startedAt.toString() : null);
+        map.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+        map.put("processed", processed);
+        map.put("succeeded", succeeded);
+        map.put("failed", failed);
+        map.put("skipped", skipped);
+        map.put("usersPerMinute", getUsersPerMinute());
+        map.put("lastError", lastError);
+        return map;
+    }
+}
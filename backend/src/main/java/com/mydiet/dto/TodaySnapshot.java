@@ -0,0 +1,100 @@
+package com.mydiet.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class TodaySnapshot {
+    LocalDate date;
+    UserInfo user;
+    List<MealItem> meals;
+    List<WorkoutItem> workouts;
+    List<EmotionItem> emotions;
+
+    public static TodaySnapshot empty(LocalDate date) {
+        return TodaySnapshot.builder()
+            .date(date)
+            .meals(List.of())
+            .workouts(List.of())
+            .emotions(List.of())
+            .build();
+    }
+
+    public int getTotalCalories() {
+        return meals.stream()
+            .mapToInt(meal -> meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0)
+            .sum();
+    }
+
+    public int getTotalCaloriesBurned() {
+        return workouts.stream()
+            .mapToInt(workout -> workout.getCaloriesBurned() != null ? workout.getCaloriesBurned() : 0)
+            .sum();
+    }
+
+    public int getTotalWorkoutDuration() {
+        return workouts.stream()
+            .mapToInt(workout -> workout.getDuration() != null ? workout.getDuration() : 0)
+            .sum();
+    }
+
+    public boolean isEmpty() {
+        return meals.isEmpty() && workouts.isEmpty() && emotions.isEmpty();
+    }
+
+    @Value
+    @Builder
+    public static class UserInfo {
+        Long id;
+        String nickname;
+        String email;
+        String role;
+        String emotionMode;
+        Double weightGoal;
+        Double height;
+        Double currentWeight;
+        LocalDateTime updatedAt;
+    }
+
+    @Value
+    @Builder
+    public static class MealItem {
+        Long id;
+        String description;
+        String photoUrl;
+        Integer caloriesEstimate;
+        LocalDate date;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+    }
+
+    @Value
+    @Builder
+    public static class WorkoutItem {
+        Long id;
+        String type;
+        String intensity;
+        Integer duration;
+        Integer caloriesBurned;
+        LocalDate date;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+    }
+
+    @Value
+    @Builder
+    public static class EmotionItem {
+        Long id;
+        String mood;
+        String note;
+        Integer stressLevel;
+        LocalDate date;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+    }
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class ClaudeResponse {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "claude_responses_seq")
+    @SequenceGenerator(name = "claude_responses_seq", sequenceName = "claude_responses_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,6 +36,21 @@ public class ClaudeResponse {
     
     private String emotionMode;
     
+    @Column(name = "prompt_hash", length = 64)
+    private String promptHash;
+    
+    @Column(name = "input_tokens")
+    private Integer inputTokens;
+    
+    @Column(name = "output_tokens")
+    private Integer outputTokens;
+    
+    @Column(name = "cache_read_tokens")
+    private Integer cacheReadTokens;
+    
+    @Column(name = "cache_write_tokens")
+    private Integer cacheWriteTokens;
+    
     private Boolean isPositive;
     
     @CreatedDate
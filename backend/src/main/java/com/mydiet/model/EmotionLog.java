@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class EmotionLog {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "emotion_logs_seq")
+    @SequenceGenerator(name = "emotion_logs_seq", sequenceName = "emotion_logs_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -42,11 +43,20 @@ public class EmotionLog {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
         if (date == null) {
             date = LocalDate.now();
         }
     }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
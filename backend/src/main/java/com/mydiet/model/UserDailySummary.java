@@ -0,0 +1,74 @@
+package com.mydiet.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_daily_summary")
+@IdClass(UserDailySummary.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDailySummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "date")
+    private LocalDate date;
+
+    @Column(name = "meal_count", nullable = false)
+    private Integer mealCount;
+
+    @Column(name = "workout_count", nullable = false)
+    private Integer workoutCount;
+
+    @Column(name = "emotion_count", nullable = false)
+    private Integer emotionCount;
+
+    @Column(name = "kcal_in", nullable = false)
+    private Integer kcalIn;
+
+    @Column(name = "kcal_burned", nullable = false)
+    private Integer kcalBurned;
+
+    @Column(name = "workout_minutes", nullable = false)
+    private Integer workoutMinutes;
+
+    @Column(name = "last_mood")
+    private String lastMood;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static UserDailySummary empty(Long userId, LocalDate date) {
+        return UserDailySummary.builder()
+            .userId(userId)
+            .date(date)
+            .mealCount(0)
+            .workoutCount(0)
+            .emotionCount(0)
+            .kcalIn(0)
+            .kcalBurned(0)
+            .workoutMinutes(0)
+            .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate date;
+    }
+}
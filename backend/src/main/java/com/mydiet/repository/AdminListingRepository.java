@@ -0,0 +1,144 @@
+package com.mydiet.repository;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Repository
+public class AdminListingRepository {
+
+    private static final String USER_SELECT =
+        "SELECT new map(u.id AS id, u.nickname AS nickname, u.email AS email, u.role AS role, " +
+        "u.provider AS provider, u.emotionMode AS emotionMode, u.weightGoal AS weightGoal, " +
+        "u.currentWeight AS currentWeight, u.createdAt AS createdAt) FROM User u WHERE 1 = 1";
+
+    private static final Map<String, String> LOG_SELECTS = Map.of(
+        "meals",
+        "SELECT new map(l.id AS id, l.user.id AS userId, l.description AS description, l.photoUrl AS photoUrl, " +
+        "l.caloriesEstimate AS caloriesEstimate, l.date AS date, l.createdAt AS createdAt) FROM MealLog l WHERE 1 = 1",
+        "workouts",
+        "SELECT new map(l.id AS id, l.user.id AS userId, l.type AS type, l.intensity AS intensity, " +
+        "l.duration AS duration, l.caloriesBurned AS caloriesBurned, l.date AS date, l.createdAt AS createdAt) " +
+        "FROM WorkoutLog l WHERE 1 = 1",
+        "emotions",
+        "SELECT new map(l.id AS id, l.user.id AS userId, l.mood AS mood, l.note AS note, " +
+        "l.stressLevel AS stressLevel, l.date AS date, l.createdAt AS createdAt) FROM EmotionLog l WHERE 1 = 1"
+    );
+
+    private static final Map<String, String> EXPORT_QUERIES = Map.of(
+        "users",
+        "SELECT u.id, u.nickname, u.email, u.role, u.provider, u.emotionMode, u.weightGoal, u.height, " +
+        "u.currentWeight, u.createdAt, u.updatedAt FROM User u ORDER BY u.id",
+        "meals",
+        "SELECT l.id, l.user.id, l.description, l.photoUrl, l.caloriesEstimate, l.date, l.createdAt " +
+        "FROM MealLog l ORDER BY l.id",
+        "workouts",
+        "SELECT l.id, l.user.id, l.type, l.intensity, l.duration, l.caloriesBurned, l.date, l.createdAt " +
+        "FROM WorkoutLog l ORDER BY l.id",
+        "emotions",
+        "SELECT l.id, l.user.id, l.mood, l.note, l.stressLevel, l.date, l.createdAt " +
+        "FROM EmotionLog l ORDER BY l.id"
+    );
+
+    private static final Map<String, List<String>> EXPORT_COLUMNS = Map.of(
+        "users", List.of("id", "nickname", "email", "role", "provider", "emotionMode", "weightGoal", "height",
+                         "currentWeight", "createdAt", "updatedAt"),
+        "meals", List.of("id", "userId", "description", "photoUrl", "caloriesEstimate", "date", "createdAt"),
+        "workouts", List.of("id", "userId", "type", "intensity", "duration", "caloriesBurned", "date", "createdAt"),
+        "emotions", List.of("id", "userId", "mood", "note", "stressLevel", "date", "createdAt")
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public boolean supportsLogType(String type) {
+        return LOG_SELECTS.containsKey(type);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Map<String, Object>> findUsers(String role, String provider, String emailPrefix,
+                                               boolean byCreatedAt, boolean ascending,
+                                               LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        StringBuilder jpql = new StringBuilder(USER_SELECT);
+        Map<String, Object> params = new HashMap<>();
+        String cmp = ascending ? ">" : "<";
+        String dir = ascending ? "ASC" : "DESC";
+
+        if (role != null) {
+            jpql.append(" AND u.role = :role");
+            params.put("role", role);
+        }
+        if (provider != null) {
+            jpql.append(" AND u.provider = :provider");
+            params.put("provider", provider);
+        }
+        if (emailPrefix != null) {
+            jpql.append(" AND LOWER(u.email) LIKE :emailPrefix ESCAPE '!'");
+            params.put("emailPrefix", escapeLike(emailPrefix.toLowerCase()) + "%");
+        }
+
+        if (byCreatedAt) {
+            if (cursorId != null) {
+                jpql.append(" AND (u.createdAt ").append(cmp).append(" :cursorCreatedAt")
+                    .append(" OR (u.createdAt = :cursorCreatedAt AND u.id ").append(cmp).append(" :cursorId))");
+                params.put("cursorCreatedAt", cursorCreatedAt);
+                params.put("cursorId", cursorId);
+            }
+            jpql.append(" ORDER BY u.createdAt ").append(dir).append(", u.id ").append(dir);
+        } else {
+            if (cursorId != null) {
+                jpql.append(" AND u.id ").append(cmp).append(" :cursorId");
+                params.put("cursorId", cursorId);
+            }
+            jpql.append(" ORDER BY u.id ").append(dir);
+        }
+
+        TypedQuery<Map> query = entityManager.createQuery(jpql.toString(), Map.class);
+        params.forEach(query::setParameter);
+        return (List) query.setMaxResults(limit).getResultList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Map<String, Object>> findLogs(String type, Long userId, boolean ascending, Long cursorId, int limit) {
+        StringBuilder jpql = new StringBuilder(LOG_SELECTS.get(type));
+        Map<String, Object> params = new HashMap<>();
+        String dir = ascending ? "ASC" : "DESC";
+
+        if (userId != null) {
+            jpql.append(" AND l.user.id = :userId");
+            params.put("userId", userId);
+        }
+        if (cursorId != null) {
+            jpql.append(" AND l.id ").append(ascending ? ">" : "<").append(" :cursorId");
+            params.put("cursorId", cursorId);
+        }
+        jpql.append(" ORDER BY l.id ").append(dir);
+
+        TypedQuery<Map> query = entityManager.createQuery(jpql.toString(), Map.class);
+        params.forEach(query::setParameter);
+        return (List) query.setMaxResults(limit).getResultList();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    public List<String> exportColumns(String type) {
+        return EXPORT_COLUMNS.get(type);
+    }
+
+    public Stream<Object[]> streamExportRows(String type, int fetchSize) {
+        return entityManager.createQuery(EXPORT_QUERIES.get(type), Object[].class)
+            .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(QueryHints.HINT_READONLY, true)
+            .getResultStream();
+    }
+}
@@ -1,10 +1,13 @@
 package com.mydiet.repository;
 import com.mydiet.model.Role;
 import com.mydiet.model.ClaudeResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +22,14 @@ public interface ClaudeResponseRepository extends JpaRepository<ClaudeResponse,
     
     List<ClaudeResponse> findByUserIdAndType(Long userId, String type);
     
+    List<ClaudeResponse> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, String type, Pageable pageable);
+    
+    List<ClaudeResponse> findByUserIdAndTypeAndCreatedAtBeforeOrderByCreatedAtDesc(
+        Long userId, String type, LocalDateTime createdBefore, Pageable pageable);
+    
+    Optional<ClaudeResponse> findFirstByUserIdAndTypeAndPromptHashAndCreatedAtAfterOrderByCreatedAtDesc(
+        Long userId, String type, String promptHash, LocalDateTime createdAfter);
+    
     @Query("SELECT c FROM ClaudeResponse c WHERE c.user.id = :userId AND c.createdAt >= :startDate ORDER BY c.createdAt DESC")
     List<ClaudeResponse> findRecentResponsesByUser(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate);
     
@@ -27,4 +38,18 @@ public interface ClaudeResponseRepository extends JpaRepository<ClaudeResponse,
     
     @Query("SELECT COUNT(c) FROM ClaudeResponse c WHERE c.user.id = :userId AND c.createdAt >= :startDate")
     long countResponsesByUserSince(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate);
+
+    @Query("SELECT c.user.id, COUNT(c) FROM ClaudeResponse c WHERE c.user.id IN :userIds AND c.createdAt >= :startDate GROUP BY c.user.id")
+    List<Object[]> countResponsesByUsersSince(@Param("userIds") List<Long> userIds, @Param("startDate") LocalDateTime startDate);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ClaudeResponse c WHERE c.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM claude_responses WHERE id IN (SELECT id FROM claude_responses WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.mydiet.repository;
+
+import com.mydiet.dto.TodaySnapshot;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class DailySnapshotRepository {
+
+    private static final String SNAPSHOT_SQL =
+        "SELECT 'U' AS kind, u.id AS id, u.nickname AS t1, u.email AS t2, u.role AS t3, u.emotion_mode AS t4, " +
+        "       CAST(NULL AS INTEGER) AS n1, CAST(NULL AS INTEGER) AS n2, " +
+        "       u.weight_goal AS d1, u.height AS d2, u.current_weight AS d3, " +
+        "       CAST(NULL AS DATE) AS log_date, CAST(NULL AS TIMESTAMP) AS created_at, u.updated_at AS updated_at " +
+        "FROM users u WHERE u.id = :userId " +
+        "UNION ALL " +
+        "SELECT 'M', m.id, m.description, m.photo_url, NULL, NULL, m.calories_estimate, NULL, " +
+        "       NULL, NULL, NULL, m.date, m.created_at, COALESCE(m.updated_at, m.created_at) " +
+        "FROM meal_logs m WHERE m.user_id = :userId AND m.date = :date " +
+        "UNION ALL " +
+        "SELECT 'W', w.id, w.type, w.intensity, NULL, NULL, w.duration, w.calories_burned, " +
+        "       NULL, NULL, NULL, w.date, w.created_at, COALESCE(w.updated_at, w.created_at) " +
+        "FROM workout_logs w WHERE w.user_id = :userId AND w.date = :date " +
+        "UNION ALL " +
+        "SELECT 'E', e.id, e.mood, e.note, NULL, NULL, e.stress_level, NULL, " +
+        "       NULL, NULL, NULL, e.date, e.created_at, COALESCE(e.updated_at, e.created_at) " +
+        "FROM emotion_logs e WHERE e.user_id = :userId AND e.date = :date " +
+        "ORDER BY 1, 2";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @SuppressWarnings("unchecked")
+    public Optional<TodaySnapshot> findSnapshot(Long userId, LocalDate date) {
+        List<Object[]> rows = entityManager.createNativeQuery(SNAPSHOT_SQL)
+            .setParameter("userId", userId)
+            .setParameter("date", date)
+            .getResultList();
+
+        TodaySnapshot.UserInfo user = null;
+        List<TodaySnapshot.MealItem> meals = new ArrayList<>();
+        List<TodaySnapshot.WorkoutItem> workouts = new ArrayList<>();
+        List<TodaySnapshot.EmotionItem> emotions = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            switch (row[0].toString()) {
+                case "U":
+                    user = TodaySnapshot.UserInfo.builder()
+                        .id(toLong(row[1]))
+                        .nickname((String) row[2])
+                        .email((String) row[3])
+                        .role((String) row[4])
+                        .emotionMode((String) row[5])
+                        .weightGoal(toDouble(row[8]))
+                        .height(toDouble(row[9]))
+                        .currentWeight(toDouble(row[10]))
+                        .updatedAt(toLocalDateTime(row[13]))
+                        .build();
+                    break;
+                case "M":
+                    meals.add(TodaySnapshot.MealItem.builder()
+                        .id(toLong(row[1]))
+                        .description((String) row[2])
+                        .photoUrl((String) row[3])
+                        .caloriesEstimate(toInteger(row[6]))
+                        .date(toLocalDate(row[11]))
+                        .createdAt(toLocalDateTime(row[12]))
+                        .updatedAt(toLocalDateTime(row[13]))
+                        .build());
+                    break;
+                case "W":
+                    workouts.add(TodaySnapshot.WorkoutItem.builder()
+                        .id(toLong(row[1]))
+                        .type((String) row[2])
+                        .intensity((String) row[3])
+                        .duration(toInteger(row[6]))
+                        .caloriesBurned(toInteger(row[7]))
+                        .date(toLocalDate(row[11]))
+                        .createdAt(toLocalDateTime(row[12]))
+                        .updatedAt(toLocalDateTime(row[13]))
+                        .build());
+                    break;
+                case "E":
+                    emotions.add(TodaySnapshot.EmotionItem.builder()
+                        .id(toLong(row[1]))
+                        .mood((String) row[2])
+                        .note((String) row[3])
+                        .stressLevel(toInteger(row[6]))
+                        .date(toLocalDate(row[11]))
+                        .createdAt(toLocalDateTime(row[12]))
+                        .updatedAt(toLocalDateTime(row[13]))
+                        .build());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (user == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(TodaySnapshot.builder()
+            .date(date)
+            .user(user)
+            .meals(List.copyOf(meals))
+            .workouts(List.copyOf(workouts))
+            .emotions(List.copyOf(emotions))
+            .build());
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+
+    private static Double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
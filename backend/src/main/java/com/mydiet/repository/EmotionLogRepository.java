@@ -1,6 +1,8 @@
 package com.mydiet.repository;
 
 import com.mydiet.model.EmotionLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +17,8 @@ import java.util.List;
 public interface EmotionLogRepository extends JpaRepository<EmotionLog, Long> {
     List<EmotionLog> findByUserId(Long userId);
     List<EmotionLog> findByUserIdAndDate(Long userId, LocalDate date);
+    List<EmotionLog> findByUserIdAndDateGreaterThanEqualOrderByIdAsc(Long userId, LocalDate startDate);
+    Slice<EmotionLog> findSliceByUserIdAndDateGreaterThanEqualOrderByIdAsc(Long userId, LocalDate startDate, Pageable pageable);
     List<EmotionLog> findByUserIdOrderByDateDesc(Long userId);
     List<EmotionLog> findByDate(LocalDate date);
     long countByUserId(Long userId);
@@ -22,5 +26,11 @@ public interface EmotionLogRepository extends JpaRepository<EmotionLog, Long> {
     @Modifying
     @Transactional
     @Query("DELETE FROM EmotionLog e WHERE e.user.id = :userId")
-    void deleteByUserId(@Param("userId") Long userId);
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM emotion_logs WHERE id IN (SELECT id FROM emotion_logs WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package com.mydiet.repository;
 import com.mydiet.model.InbodyData;
 import com.mydiet.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,4 +24,15 @@ public interface InbodyDataRepository extends JpaRepository<InbodyData, Long> {
     List<InbodyData> findByUserAndRecordedAtBetween(@Param("user") User user, 
                                                    @Param("startDate") LocalDateTime startDate, 
                                                    @Param("endDate") LocalDateTime endDate);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM InbodyData i WHERE i.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM inbody_data WHERE id IN (SELECT id FROM inbody_data WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
\ No newline at end of file
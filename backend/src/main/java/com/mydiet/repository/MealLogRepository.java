@@ -1,6 +1,8 @@
 package com.mydiet.repository;
 
 import com.mydiet.model.MealLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +17,8 @@ import java.util.List;
 public interface MealLogRepository extends JpaRepository<MealLog, Long> {
     List<MealLog> findByUserId(Long userId);
     List<MealLog> findByUserIdAndDate(Long userId, LocalDate date);
+    List<MealLog> findByUserIdAndDateGreaterThanEqualOrderByIdAsc(Long userId, LocalDate startDate);
+    Slice<MealLog> findSliceByUserIdAndDateGreaterThanEqualOrderByIdAsc(Long userId, LocalDate startDate, Pageable pageable);
     List<MealLog> findByUserIdOrderByDateDesc(Long userId);
     List<MealLog> findByDate(LocalDate date);
     long countByUserId(Long userId);
@@ -22,5 +26,11 @@ public interface MealLogRepository extends JpaRepository<MealLog, Long> {
     @Modifying
     @Transactional
     @Query("DELETE FROM MealLog m WHERE m.user.id = :userId")
-    void deleteByUserId(@Param("userId") Long userId);
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM meal_logs WHERE id IN (SELECT id FROM meal_logs WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
\ No newline at end of file
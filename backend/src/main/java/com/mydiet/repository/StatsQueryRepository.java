@@ -0,0 +1,63 @@
+package com.mydiet.repository;
+
+import com.mydiet.dto.ActivityStats;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class StatsQueryRepository {
+
+    private static final String STATS_SQL =
+        "SELECT l.kind, " +
+        "       COUNT(*) AS total, " +
+        "       COUNT(*) FILTER (WHERE l.date = :today) AS today, " +
+        "       COUNT(*) FILTER (WHERE l.date BETWEEN :weekStart AND :today) AS week, " +
+        "       COUNT(DISTINCT l.user_id) FILTER (WHERE l.date = :today) AS today_users, " +
+        "       COUNT(DISTINCT l.user_id) FILTER (WHERE l.date BETWEEN :weekStart AND :today) AS week_users, " +
+        "       (SELECT COUNT(*) FROM users) AS total_users " +
+        "FROM (SELECT 'M' AS kind, user_id, date FROM meal_logs " +
+        "      UNION ALL SELECT 'W', user_id, date FROM workout_logs " +
+        "      UNION ALL SELECT 'E', user_id, date FROM emotion_logs) l " +
+        "GROUP BY GROUPING SETS ((l.kind), ())";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @SuppressWarnings("unchecked")
+    public ActivityStats findActivityStats(LocalDate today, LocalDate weekStart) {
+        List<Object[]> rows = entityManager.createNativeQuery(STATS_SQL)
+            .setParameter("today", today)
+            .setParameter("weekStart", weekStart)
+            .getResultList();
+
+        ActivityStats.ActivityStatsBuilder stats = ActivityStats.builder();
+        for (Object[] row : rows) {
+            stats.totalUsers(toLong(row[6]));
+            if (row[0] == null) {
+                stats.todayActiveUsers(toLong(row[4]))
+                    .weekActiveUsers(toLong(row[5]));
+                continue;
+            }
+            switch (row[0].toString()) {
+                case "M":
+                    stats.totalMeals(toLong(row[1])).todayMeals(toLong(row[2])).weekMeals(toLong(row[3]));
+                    break;
+                case "W":
+                    stats.totalWorkouts(toLong(row[1])).todayWorkouts(toLong(row[2])).weekWorkouts(toLong(row[3]));
+                    break;
+                case "E":
+                    stats.totalEmotions(toLong(row[1])).todayEmotions(toLong(row[2])).weekEmotions(toLong(row[3]));
+                    break;
+            }
+        }
+        return stats.build();
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,115 @@
+package com.mydiet.repository;
+
+import com.mydiet.model.UserDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UserDailySummaryRepository extends JpaRepository<UserDailySummary, UserDailySummary.Key> {
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_summary (user_id, date, meal_count, workout_count, emotion_count, " +
+                   "kcal_in, kcal_burned, workout_minutes, last_mood, updated_at) " +
+                   "VALUES (:userId, :date, 1, 0, 0, :kcal, 0, 0, NULL, now()) " +
+                   "ON CONFLICT (user_id, date) DO UPDATE SET " +
+                   "meal_count = user_daily_summary.meal_count + 1, " +
+                   "kcal_in = user_daily_summary.kcal_in + EXCLUDED.kcal_in, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int addMeal(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("kcal") int kcal);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_summary (user_id, date, meal_count, workout_count, emotion_count, " +
+                   "kcal_in, kcal_burned, workout_minutes, last_mood, updated_at) " +
+                   "VALUES (:userId, :date, 0, 1, 0, 0, :kcal, :minutes, NULL, now()) " +
+                   "ON CONFLICT (user_id, date) DO UPDATE SET " +
+                   "workout_count = user_daily_summary.workout_count + 1, " +
+                   "kcal_burned = user_daily_summary.kcal_burned + EXCLUDED.kcal_burned, " +
+                   "workout_minutes = user_daily_summary.workout_minutes + EXCLUDED.workout_minutes, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int addWorkout(@Param("userId") Long userId, @Param("date") LocalDate date,
+                   @Param("kcal") int kcal, @Param("minutes") int minutes);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_summary (user_id, date, meal_count, workout_count, emotion_count, " +
+                   "kcal_in, kcal_burned, workout_minutes, last_mood, updated_at) " +
+                   "VALUES (:userId, :date, 0, 0, 1, 0, 0, 0, :mood, now()) " +
+                   "ON CONFLICT (user_id, date) DO UPDATE SET " +
+                   "emotion_count = user_daily_summary.emotion_count + 1, " +
+                   "last_mood = EXCLUDED.last_mood, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int addEmotion(@Param("userId") Long userId, @Param("date") LocalDate date, @Param("mood") String mood);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_summary (user_id, date, meal_count, workout_count, emotion_count, " +
+                   "kcal_in, kcal_burned, workout_minutes, last_mood, updated_at) " +
+                   "SELECT :userId, :date, " +
+                   "(SELECT COUNT(*) FROM meal_logs WHERE user_id = :userId AND date = :date), " +
+                   "(SELECT COUNT(*) FROM workout_logs WHERE user_id = :userId AND date = :date), " +
+                   "(SELECT COUNT(*) FROM emotion_logs WHERE user_id = :userId AND date = :date), " +
+                   "(SELECT COALESCE(SUM(calories_estimate), 0) FROM meal_logs WHERE user_id = :userId AND date = :date), " +
+                   "(SELECT COALESCE(SUM(calories_burned), 0) FROM workout_logs WHERE user_id = :userId AND date = :date), " +
+                   "(SELECT COALESCE(SUM(duration), 0) FROM workout_logs WHERE user_id = :userId AND date = :date), " +
+                   "(SELECT mood FROM emotion_logs WHERE user_id = :userId AND date = :date ORDER BY id DESC LIMIT 1), " +
+                   "now() " +
+                   "ON CONFLICT (user_id, date) DO UPDATE SET " +
+                   "meal_count = EXCLUDED.meal_count, " +
+                   "workout_count = EXCLUDED.workout_count, " +
+                   "emotion_count = EXCLUDED.emotion_count, " +
+                   "kcal_in = EXCLUDED.kcal_in, " +
+                   "kcal_burned = EXCLUDED.kcal_burned, " +
+                   "workout_minutes = EXCLUDED.workout_minutes, " +
+                   "last_mood = EXCLUDED.last_mood, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int rebuild(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    @Query(value = "SELECT DISTINCT s.user_id FROM user_daily_summary s " +
+                   "WHERE s.date >= :since AND s.user_id > :afterId ORDER BY s.user_id LIMIT :limit",
+           nativeQuery = true)
+    List<Number> findActiveUserIdsAfter(@Param("since") LocalDate since, @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM UserDailySummary s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_daily_summary", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO user_daily_summary (user_id, date, meal_count, workout_count, emotion_count, " +
+                   "kcal_in, kcal_burned, workout_minutes, last_mood, updated_at) " +
+                   "SELECT k.user_id, k.date, " +
+                   "COALESCE(m.cnt, 0), COALESCE(w.cnt, 0), COALESCE(e.cnt, 0), " +
+                   "COALESCE(m.kcal, 0), COALESCE(w.kcal, 0), COALESCE(w.minutes, 0), " +
+                   "lm.mood, now() " +
+                   "FROM (SELECT user_id, date FROM meal_logs " +
+                   "      UNION SELECT user_id, date FROM workout_logs " +
+                   "      UNION SELECT user_id, date FROM emotion_logs) k " +
+                   "LEFT JOIN (SELECT user_id, date, COUNT(*) AS cnt, SUM(calories_estimate) AS kcal " +
+                   "           FROM meal_logs GROUP BY user_id, date) m " +
+                   "       ON m.user_id = k.user_id AND m.date = k.date " +
+                   "LEFT JOIN (SELECT user_id, date, COUNT(*) AS cnt, SUM(calories_burned) AS kcal, SUM(duration) AS minutes " +
+                   "           FROM workout_logs GROUP BY user_id, date) w " +
+                   "       ON w.user_id = k.user_id AND w.date = k.date " +
+                   "LEFT JOIN (SELECT user_id, date, COUNT(*) AS cnt " +
+                   "           FROM emotion_logs GROUP BY user_id, date) e " +
+                   "       ON e.user_id = k.user_id AND e.date = k.date " +
+                   "LEFT JOIN (SELECT DISTINCT ON (user_id, date) user_id, date, mood " +
+                   "           FROM emotion_logs ORDER BY user_id, date, id DESC) lm " +
+                   "       ON lm.user_id = k.user_id AND lm.date = k.date",
+           nativeQuery = true)
+    int backfillAll();
+}
@@ -15,6 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     
     Optional<User> findByProviderId(String providerId);
+
+    Optional<User> findFirstByOrderByIdAsc();
     
     List<User> findByRole(String role);
     
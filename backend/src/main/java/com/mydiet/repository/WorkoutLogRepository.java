@@ -1,6 +1,8 @@
 package com.mydiet.repository;
 
 import com.mydiet.model.WorkoutLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +17,8 @@ import java.util.List;
 public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
     List<WorkoutLog> findByUserId(Long userId);
     List<WorkoutLog> findByUserIdAndDate(Long userId, LocalDate date);
+    List<WorkoutLog> findByUserIdAndDateGreaterThanEqualOrderByIdAsc(Long userId, LocalDate startDate);
+    Slice<WorkoutLog> findSliceByUserIdAndDateGreaterThanEqualOrderByIdAsc(Long userId, LocalDate startDate, Pageable pageable);
     List<WorkoutLog> findByUserIdOrderByDateDesc(Long userId);
     List<WorkoutLog> findByDate(LocalDate date);
     long countByUserId(Long userId);
@@ -22,5 +26,11 @@ public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
     @Modifying
     @Transactional
     @Query("DELETE FROM WorkoutLog w WHERE w.user.id = :userId")
-    void deleteByUserId(@Param("userId") Long userId);
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM workout_logs WHERE id IN (SELECT id FROM workout_logs WHERE user_id = :userId LIMIT :limit)",
+           nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") Long userId, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.mydiet.service;
+
+import com.mydiet.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountDeletionService {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final UserRepository userRepository;
+    private final MealLogRepository mealLogRepository;
+    private final WorkoutLogRepository workoutLogRepository;
+    private final EmotionLogRepository emotionLogRepository;
+    private final ClaudeResponseRepository claudeResponseRepository;
+    private final InbodyDataRepository inbodyDataRepository;
+    private final UserDailySummaryRepository userDailySummaryRepository;
+    private final CurrentUserService currentUserService;
+    private final AdviceCacheService adviceCacheService;
+    private final ConversationContextService conversationContextService;
+    private final ClaudeResponseWriter claudeResponseWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    public Map<String, Integer> deleteAccount(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
+
+        claudeResponseWriter.flushUser(userId);
+        return transactionTemplate.execute(status -> deleteRows(userId));
+    }
+
+    private Map<String, Integer> deleteRows(Long userId) {
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        deleted.put("meals", mealLogRepository.deleteByUserId(userId));
+        deleted.put("workouts", workoutLogRepository.deleteByUserId(userId));
+        deleted.put("emotions", emotionLogRepository.deleteByUserId(userId));
+        deleted.put("claudeResponses", claudeResponseRepository.deleteByUserId(userId));
+        deleted.put("inbodyData", inbodyDataRepository.deleteByUserId(userId));
+        deleted.put("dailySummaries", userDailySummaryRepository.deleteByUserId(userId));
+
+        userRepository.deleteById(userId);
+        AfterCommit.run(() -> {
+            currentUserService.evict(userId);
+            adviceCacheService.evictUser(userId);
+            conversationContextService.evict(userId);
+        });
+
+        log.info("계정 삭제 완료: userId={}, 삭제 건수={}", userId, deleted);
+        return deleted;
+    }
+
+    @Async
+    public CompletableFuture<Map<String, Integer>> deleteAccountInChunks(Long userId) {
+        log.info("=== 계정 분할 삭제 시작: userId={} ===", userId);
+
+        try {
+            Map<String, Integer> deleted = new LinkedHashMap<>();
+            deleted.put("meals", deleteInChunks(userId, mealLogRepository::deleteChunkByUserId));
+            deleted.put("workouts", deleteInChunks(userId, workoutLogRepository::deleteChunkByUserId));
+            deleted.put("emotions", deleteInChunks(userId, emotionLogRepository::deleteChunkByUserId));
+            deleted.put("claudeResponses", deleteInChunks(userId, claudeResponseRepository::deleteChunkByUserId));
+            deleted.put("inbodyData", deleteInChunks(userId, inbodyDataRepository::deleteChunkByUserId));
+
+            Map<String, Integer> remaining = deleteAccount(userId);
+            remaining.forEach((table, count) -> deleted.merge(table, count, Integer::sum));
+
+            log.info("계정 분할 삭제 완료: userId={}, 삭제 건수={}", userId, deleted);
+            return CompletableFuture.completedFuture(deleted);
+        } catch (Exception e) {
+            log.error("계정 분할 삭제 실패: userId={}", userId, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private int deleteInChunks(Long userId, ChunkDelete chunkDelete) {
+        int total = 0;
+        int rows;
+        do {
+            rows = chunkDelete.delete(userId, CHUNK_SIZE);
+            total += rows;
+        } while (rows == CHUNK_SIZE);
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface ChunkDelete {
+        int delete(Long userId, int limit);
+    }
+}
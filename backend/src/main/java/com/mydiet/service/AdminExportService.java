@@ -0,0 +1,123 @@
+package com.mydiet.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mydiet.repository.AdminListingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminExportService {
+
+    public static final List<String> TYPES = List.of("users", "meals", "workouts", "emotions");
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AdminListingRepository adminListingRepository;
+    private final ObjectMapper objectMapper;
+
+    public void validate(String type, String format) {
+        if (!format.equals("ndjson") && !format.equals("csv")) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+        if (type.equals("all")) {
+            if (format.equals("csv")) {
+                throw new IllegalArgumentException("CSV 내보내기는 type을 하나만 지정해야 합니다");
+            }
+        } else if (!TYPES.contains(type)) {
+            throw new IllegalArgumentException("지원하지 않는 데이터 종류입니다: " + type);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long export(String type, String format, boolean gzip, OutputStream target) throws IOException {
+        validate(type, format);
+        List<String> types = type.equals("all") ? TYPES : List.of(type);
+
+        OutputStream out = gzip ? new GZIPOutputStream(target, BUFFER_SIZE) : target;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        long total = 0;
+        for (String t : types) {
+            List<String> columns = adminListingRepository.exportColumns(t);
+            try (Stream<Object[]> rows = adminListingRepository.streamExportRows(t, FETCH_SIZE)) {
+                long count = format.equals("csv")
+                    ? writeCsv(rows, columns, writer)
+                    : writeNdjson(rows, t, columns, writer);
+                log.info("데이터 내보내기: {} {}건", t, count);
+                total += count;
+            }
+        }
+
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) out).finish();
+        }
+        return total;
+    }
+
+    private long writeNdjson(Stream<Object[]> rows, String type, List<String> columns, Writer writer) throws IOException {
+        ObjectWriter valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.setRootValueSeparator(null);
+
+        long count = 0;
+        for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                valueWriter.writeValue(generator, row[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Stream<Object[]> rows, List<String> columns, Writer writer) throws IOException {
+        writer.write(String.join(",", columns));
+        writer.write('\n');
+
+        long count = 0;
+        for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvValue(row[i]));
+            }
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
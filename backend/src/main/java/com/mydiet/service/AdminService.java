@@ -1,14 +1,19 @@
 package com.mydiet.service;
 
+import com.mydiet.dto.ActivityStats;
+import com.mydiet.dto.KeysetPage;
 import com.mydiet.model.*;
 import com.mydiet.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +24,11 @@ public class AdminService {
     private final MealLogRepository mealLogRepository;
     private final WorkoutLogRepository workoutLogRepository;
     private final EmotionLogRepository emotionLogRepository;
+    private final AdminListingRepository adminListingRepository;
+    private final StatsQueryRepository statsQueryRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     public Map<String, Object> getDashboardStats() {
         log.info("=== 관리자 대시보드 통계 조회 시작 ===");
@@ -27,27 +37,23 @@ public class AdminService {
         
         try {
             LocalDate today = LocalDate.now();
+            ActivityStats activity = statsQueryRepository.findActivityStats(today, today.minusDays(7));
             
-            long totalUsers = userRepository.count();
-            long totalMeals = mealLogRepository.count();
-            long totalWorkouts = workoutLogRepository.count();
-            long totalEmotions = emotionLogRepository.count();
-            
-            List<MealLog> todayMeals = mealLogRepository.findByDate(today);
-            List<WorkoutLog> todayWorkouts = workoutLogRepository.findByDate(today);
-            List<EmotionLog> todayEmotions = emotionLogRepository.findByDate(today);
-            
-            stats.put("totalUsers", totalUsers);
-            stats.put("activeUsers", totalUsers);
-            stats.put("totalMeals", totalMeals);
-            stats.put("totalWorkouts", totalWorkouts);
-            stats.put("totalEmotions", totalEmotions);
-            stats.put("todayMeals", todayMeals.size());
-            stats.put("todayWorkouts", todayWorkouts.size());
-            stats.put("todayEmotions", todayEmotions.size());
+            stats.put("totalUsers", activity.getTotalUsers());
+            stats.put("activeUsers", activity.getTodayActiveUsers());
+            stats.put("weekActiveUsers", activity.getWeekActiveUsers());
+            stats.put("totalMeals", activity.getTotalMeals());
+            stats.put("totalWorkouts", activity.getTotalWorkouts());
+            stats.put("totalEmotions", activity.getTotalEmotions());
+            stats.put("todayMeals", activity.getTodayMeals());
+            stats.put("todayWorkouts", activity.getTodayWorkouts());
+            stats.put("todayEmotions", activity.getTodayEmotions());
+            stats.put("weekMeals", activity.getWeekMeals());
+            stats.put("weekWorkouts", activity.getWeekWorkouts());
+            stats.put("weekEmotions", activity.getWeekEmotions());
             
             log.info("통계 조회 완료 - 사용자: {}, 식단: {}, 운동: {}, 감정: {}", 
-                    totalUsers, totalMeals, totalWorkouts, totalEmotions);
+                    activity.getTotalUsers(), activity.getTotalMeals(), activity.getTotalWorkouts(), activity.getTotalEmotions());
             
             return stats;
         } catch (Exception e) {
@@ -56,54 +62,106 @@ public class AdminService {
         }
     }
 
-    public Map<String, Object> getAllData() {
-        log.info("=== 전체 데이터 조회 시작 ===");
-        
-        try {
-            List<User> users = userRepository.findAll();
-            List<MealLog> meals = mealLogRepository.findAll();
-            List<WorkoutLog> workouts = workoutLogRepository.findAll();
-            List<EmotionLog> emotions = emotionLogRepository.findAll();
-            
-            log.info("데이터 조회 완료 - 사용자: {}, 식단: {}, 운동: {}, 감정: {}", 
-                    users.size(), meals.size(), workouts.size(), emotions.size());
-            
-            Map<String, Object> data = new HashMap<>();
-            data.put("users", users);
-            data.put("meals", meals);
-            data.put("workouts", workouts);
-            data.put("emotions", emotions);
-            data.put("timestamp", new Date());
-            
-            return data;
-        } catch (Exception e) {
-            log.error("전체 데이터 조회 실패", e);
-            throw new RuntimeException("데이터 조회에 실패했습니다: " + e.getMessage());
+    @Transactional(readOnly = true)
+    public KeysetPage getUsersPage(String role, String provider, String emailPrefix,
+                                   String sort, String direction, String cursor, Integer size) {
+        boolean byCreatedAt;
+        if (sort == null || sort.equals("id")) {
+            byCreatedAt = false;
+        } else if (sort.equals("createdAt")) {
+            byCreatedAt = true;
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
         }
+        boolean ascending = isAscending(direction);
+        int pageSize = pageSize(size);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String decoded = decodeCursor(cursor);
+            try {
+                if (byCreatedAt) {
+                    int sep = decoded.indexOf('|');
+                    cursorCreatedAt = LocalDateTime.parse(decoded.substring(0, sep));
+                    cursorId = Long.valueOf(decoded.substring(sep + 1));
+                } else {
+                    cursorId = Long.valueOf(decoded);
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+        }
+
+        List<Map<String, Object>> rows = adminListingRepository.findUsers(
+            blankToNull(role), blankToNull(provider), blankToNull(emailPrefix),
+            byCreatedAt, ascending, cursorCreatedAt, cursorId, pageSize + 1);
+
+        return toPage(rows, pageSize, last -> byCreatedAt
+            ? last.get("createdAt") + "|" + last.get("id")
+            : String.valueOf(last.get("id")));
     }
 
-    public List<Map<String, Object>> getAllUsers() {
-        log.info("=== 전체 사용자 목록 조회 ===");
-        
+    @Transactional(readOnly = true)
+    public KeysetPage getDataPage(String type, Long userId, String direction, String cursor, Integer size) {
+        String dataType = type != null ? type : "meals";
+        if (!adminListingRepository.supportsLogType(dataType)) {
+            throw new IllegalArgumentException("지원하지 않는 데이터 종류입니다: " + type);
+        }
+        boolean ascending = isAscending(direction);
+        int pageSize = pageSize(size);
+
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                cursorId = Long.valueOf(decodeCursor(cursor));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+        }
+
+        List<Map<String, Object>> rows = adminListingRepository.findLogs(dataType, userId, ascending, cursorId, pageSize + 1);
+        return toPage(rows, pageSize, last -> String.valueOf(last.get("id")));
+    }
+
+    private KeysetPage toPage(List<Map<String, Object>> rows, int pageSize,
+                              Function<Map<String, Object>, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Map<String, Object>> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(cursorOf.apply(items.get(items.size() - 1))) : null;
+        return new KeysetPage(items, nextCursor, hasNext, items.size());
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private boolean isAscending(String direction) {
+        if (direction == null || direction.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("정렬 방향은 asc 또는 desc 입니다");
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private String encodeCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
         try {
-            List<User> users = userRepository.findAll();
-            
-            return users.stream().map(user -> {
-                Map<String, Object> userMap = new HashMap<>();
-                userMap.put("id", user.getId());
-                userMap.put("nickname", user.getNickname());
-                userMap.put("email", user.getEmail());
-                userMap.put("role", user.getRole());
-                userMap.put("createdAt", user.getCreatedAt());
-                userMap.put("weightGoal", user.getWeightGoal());
-                userMap.put("currentWeight", user.getCurrentWeight());
-                userMap.put("emotionMode", user.getEmotionMode());
-                userMap.put("provider", user.getProvider());
-                return userMap;
-            }).collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("사용자 목록 조회 실패", e);
-            throw new RuntimeException("사용자 목록 조회에 실패했습니다: " + e.getMessage());
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
         }
     }
 
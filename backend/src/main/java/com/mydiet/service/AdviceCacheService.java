@@ -0,0 +1,183 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.ClaudeReply;
+import com.mydiet.dto.TodaySnapshot;
+import com.mydiet.model.ClaudeResponse;
+import com.mydiet.model.UserDailySummary;
+import com.mydiet.repository.ClaudeResponseRepository;
+import com.mydiet.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class AdviceCacheService {
+
+    private static final int MAX_CONTENT_LENGTH = 2000;
+
+    private final ClaudeResponseRepository claudeResponseRepository;
+    private final ClaudeResponseWriter claudeResponseWriter;
+    private final UserRepository userRepository;
+    private final InFlightRequestRegistry inFlightRequestRegistry;
+    private final long ttlMillis;
+    private final Map<UserDailySummary.Key, Map<String, CachedAdvice>> cache;
+    private final Set<String> storedChecked;
+
+    public AdviceCacheService(ClaudeResponseRepository claudeResponseRepository,
+                              ClaudeResponseWriter claudeResponseWriter,
+                              UserRepository userRepository,
+                              InFlightRequestRegistry inFlightRequestRegistry,
+                              @Value("${mydiet.advice-cache.max-size:5000}") int maxSize,
+                              @Value("${mydiet.advice-cache.ttl-seconds:21600}") long ttlSeconds) {
+        this.claudeResponseRepository = claudeResponseRepository;
+        this.claudeResponseWriter = claudeResponseWriter;
+        this.userRepository = userRepository;
+        this.inFlightRequestRegistry = inFlightRequestRegistry;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = Collections.synchronizedMap(
+            new LinkedHashMap<UserDailySummary.Key, Map<String, CachedAdvice>>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UserDailySummary.Key, Map<String, CachedAdvice>> eldest) {
+                    return size() > maxSize;
+                }
+            });
+        this.storedChecked = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<String, Boolean>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > maxSize;
+                }
+            }));
+    }
+
+    public Mono<String> getOrGenerate(String type, TodaySnapshot snapshot, String prompt,
+                                      Supplier<Mono<ClaudeReply>> generator) {
+        Long userId = snapshot.getUser().getId();
+        LocalDate date = snapshot.getDate();
+        String promptHash = hash(type, snapshot, prompt);
+
+        String cached = lookup(userId, date, type, promptHash);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return inFlightRequestRegistry.execute(userId + ":" + type + ":" + promptHash, () -> generator.get()
+            .publishOn(Schedulers.boundedElastic())
+            .map(reply -> store(userId, date, type, promptHash, snapshot.getUser().getEmotionMode(), reply)));
+    }
+
+    public void evict(Long userId, LocalDate date) {
+        cache.remove(new UserDailySummary.Key(userId, date));
+    }
+
+    public void evictUser(Long userId) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.getUserId().equals(userId));
+        }
+    }
+
+    private String lookup(Long userId, LocalDate date, String type, String promptHash) {
+        long now = System.currentTimeMillis();
+        Map<String, CachedAdvice> entries = cache.get(new UserDailySummary.Key(userId, date));
+        if (entries != null) {
+            CachedAdvice advice = entries.get(type);
+            if (advice != null && advice.promptHash.equals(promptHash) && now - advice.cachedAt < ttlMillis) {
+                return advice.content;
+            }
+        }
+
+        // 저장된 조언은 재시작 이후 키마다 한 번만 조회한다. 그 뒤에 생성된 조언은 메모리에 있다.
+        if (!storedChecked.add(userId + ":" + date + ":" + type)) {
+            return null;
+        }
+
+        LocalDateTime ttlStart = LocalDateTime.now().minus(Duration.ofMillis(ttlMillis));
+        LocalDateTime dayStart = date.atStartOfDay();
+        return claudeResponseRepository
+            .findFirstByUserIdAndTypeAndPromptHashAndCreatedAtAfterOrderByCreatedAtDesc(
+                userId, type, promptHash, dayStart.isBefore(ttlStart) ? dayStart : ttlStart)
+            .map(response -> {
+                remember(userId, date, type, promptHash, response.getContent());
+                return response.getContent();
+            })
+            .orElse(null);
+    }
+
+    private String store(Long userId, LocalDate date, String type, String promptHash, String emotionMode, ClaudeReply reply) {
+        String content = reply.getText();
+        String stored = content.length() > MAX_CONTENT_LENGTH ? content.substring(0, MAX_CONTENT_LENGTH) : content;
+
+        claudeResponseWriter.enqueue(ClaudeResponse.builder()
+            .user(userRepository.getReferenceById(userId))
+            .type(type)
+            .content(stored)
+            .emotionMode(emotionMode)
+            .promptHash(promptHash)
+            .inputTokens(reply.getInputTokens())
+            .outputTokens(reply.getOutputTokens())
+            .cacheReadTokens(reply.getCacheReadInputTokens())
+            .cacheWriteTokens(reply.getCacheCreationInputTokens())
+            .createdAt(LocalDateTime.now())
+            .build());
+
+        remember(userId, date, type, promptHash, stored);
+        return stored;
+    }
+
+    private void remember(Long userId, LocalDate date, String type, String promptHash, String content) {
+        cache.computeIfAbsent(new UserDailySummary.Key(userId, date), key -> new ConcurrentHashMap<>())
+            .put(type, new CachedAdvice(promptHash, content, System.currentTimeMillis()));
+    }
+
+    private String hash(String type, TodaySnapshot snapshot, String prompt) {
+        StringBuilder key = new StringBuilder(prompt.length() + 128);
+        key.append(type).append('|').append(snapshot.getUser().getId()).append('|').append(snapshot.getDate());
+        key.append('|').append(snapshot.getUser().getEmotionMode()).append('@').append(snapshot.getUser().getUpdatedAt());
+        key.append("|M");
+        snapshot.getMeals().forEach(meal -> key.append(',').append(meal.getId()).append('@').append(meal.getUpdatedAt()));
+        key.append("|W");
+        snapshot.getWorkouts().forEach(workout -> key.append(',').append(workout.getId()).append('@').append(workout.getUpdatedAt()));
+        key.append("|E");
+        snapshot.getEmotions().forEach(emotion -> key.append(',').append(emotion.getId()).append('@').append(emotion.getUpdatedAt()));
+        key.append('|').append(prompt);
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class CachedAdvice {
+        private final String promptHash;
+        private final String content;
+        private final long cachedAt;
+
+        private CachedAdvice(String promptHash, String content, long cachedAt) {
+            this.promptHash = promptHash;
+            this.content = content;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.mydiet.service;
+
+import com.mydiet.model.User;
+import com.mydiet.repository.ClaudeResponseRepository;
+import com.mydiet.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class AiRateLimiter {
+
+    private static final long HOUR_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final int RECONCILE_CHUNK = 500;
+
+    private final ClaudeResponseRepository claudeResponseRepository;
+    private final UserRepository userRepository;
+    private final int defaultPerHour;
+    private final int burst;
+    private final Map<String, Integer> perHourOverrides;
+    private final ConcurrentHashMap<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public AiRateLimiter(ClaudeResponseRepository claudeResponseRepository,
+                         UserRepository userRepository,
+                         @Value("${mydiet.ai-rate-limit.per-hour:60}") int defaultPerHour,
+                         @Value("${mydiet.ai-rate-limit.burst:10}") int burst,
+                         @Value("#{${mydiet.ai-rate-limit.per-hour-overrides:{:}}}") Map<String, Integer> perHourOverrides) {
+        this.claudeResponseRepository = claudeResponseRepository;
+        this.userRepository = userRepository;
+        this.defaultPerHour = defaultPerHour;
+        this.burst = burst;
+        this.perHourOverrides = new HashMap<>(perHourOverrides);
+    }
+
+    // 허용되면 0, 아니면 다음 토큰까지 기다려야 하는 초. 토큰은 claude_responses에 기록될 때 charge로 차감한다.
+    public long checkAvailable(User user) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(user.getId());
+        if (bucket == null) {
+            bucket = newBucket(user, now);
+            TokenBucket raced = buckets.putIfAbsent(user.getId(), bucket);
+            if (raced != null) {
+                bucket = raced;
+            }
+        }
+        bucket.retune(now, getPerHourLimit(user), burst);
+        return bucket.checkAvailable(now);
+    }
+
+    public void charge(Long userId) {
+        TokenBucket bucket = buckets.get(userId);
+        if (bucket != null) {
+            bucket.charge(System.nanoTime());
+        }
+    }
+
+    public int getPerHourLimit(User user) {
+        Integer limit = user.getRole() != null ? perHourOverrides.get(user.getRole()) : null;
+        if (limit == null && user.getEmotionMode() != null) {
+            limit = perHourOverrides.get(user.getEmotionMode());
+        }
+        return limit != null ? limit : defaultPerHour;
+    }
+
+    public int getTrackedUserCount() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${mydiet.ai-rate-limit.reconcile-ms:60000}")
+    public void reconcile() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        List<Long> userIds = new ArrayList<>(buckets.keySet());
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK, userIds.size()));
+            Map<Long, Long> usage = new HashMap<>();
+            for (Object[] row : claudeResponseRepository.countResponsesByUsersSince(chunk, since)) {
+                usage.put((Long) row[0], (Long) row[1]);
+            }
+            Map<Long, Integer> limits = new HashMap<>();
+            for (User user : userRepository.findAllById(chunk)) {
+                limits.put(user.getId(), getPerHourLimit(user));
+            }
+            for (Long userId : chunk) {
+                TokenBucket bucket = buckets.get(userId);
+                if (bucket == null) {
+                    continue;
+                }
+                Integer limit = limits.get(userId);
+                if (limit == null) {
+                    buckets.remove(userId);
+                    continue;
+                }
+                bucket.retune(now, limit, burst);
+                bucket.reconcile(now, usage.getOrDefault(userId, 0L));
+            }
+        }
+        log.debug("AI 사용량 한도 동기화 완료: {}명", userIds.size());
+    }
+
+    private TokenBucket newBucket(User user, long now) {
+        int perHour = getPerHourLimit(user);
+        long used = claudeResponseRepository.countResponsesByUserSince(user.getId(), LocalDateTime.now().minusHours(1));
+        TokenBucket bucket = new TokenBucket(Math.min(burst, perHour), perHour, now);
+        bucket.reconcile(now, used);
+        return bucket;
+    }
+
+    private static final class TokenBucket {
+        private int capacity;
+        private int perHour;
+        private double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+        private volatile long lastUsed;
+
+        private TokenBucket(int capacity, int perHour, long now) {
+            this.capacity = capacity;
+            this.perHour = perHour;
+            this.tokensPerNano = (double) perHour / HOUR_NANOS;
+            this.tokens = capacity;
+            this.lastRefill = now;
+            this.lastUsed = now;
+        }
+
+        synchronized long checkAvailable(long now) {
+            refill(now);
+            lastUsed = now;
+            if (tokens >= 1) {
+                return 0;
+            }
+            if (tokensPerNano <= 0) {
+                return TimeUnit.NANOSECONDS.toSeconds(HOUR_NANOS);
+            }
+            long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        // 동시에 통과한 요청이 모두 기록되면 잠시 음수가 될 수 있고, 그만큼 다음 요청이 기다린다
+        synchronized void charge(long now) {
+            refill(now);
+            lastUsed = now;
+            tokens -= 1;
+        }
+
+        synchronized void retune(long now, int perHour, int burst) {
+            if (perHour == this.perHour) {
+                return;
+            }
+            refill(now);
+            this.perHour = perHour;
+            this.capacity = Math.min(burst, perHour);
+            this.tokensPerNano = (double) perHour / HOUR_NANOS;
+            this.tokens = Math.min(tokens, capacity);
+        }
+
+        synchronized void reconcile(long now, long usedLastHour) {
+            refill(now);
+            tokens = Math.min(tokens, Math.max(0, perHour - usedLastHour));
+        }
+
+        boolean isIdle(long now) {
+            return now - lastUsed > HOUR_NANOS;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+    }
+}
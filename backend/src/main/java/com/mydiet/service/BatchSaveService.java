@@ -0,0 +1,163 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.BatchSaveItem;
+import com.mydiet.model.EmotionLog;
+import com.mydiet.model.MealLog;
+import com.mydiet.model.User;
+import com.mydiet.model.WorkoutLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchSaveService {
+
+    public static final int MAX_ITEMS = 500;
+
+    private final MealService mealService;
+    private final WorkoutService workoutService;
+    private final EmotionService emotionService;
+
+    public Map<Integer, String> validate(List<BatchSaveItem> items) {
+        Map<Integer, String> errors = new LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchSaveItem item = items.get(i);
+            String error = validateItem(item, today);
+            if (error != null) {
+                errors.put(i, error);
+            }
+        }
+        return errors;
+    }
+
+    private String validateItem(BatchSaveItem item, LocalDate today) {
+        if (item == null || item.getKind() == null) {
+            return "kind가 필요합니다 (meal, workout, emotion)";
+        }
+        if (item.getDate() != null && item.getDate().isAfter(today)) {
+            return "미래 날짜는 저장할 수 없습니다";
+        }
+        if (isNegative(item.getCalories())) {
+            return "칼로리는 0 이상이어야 합니다";
+        }
+
+        switch (item.getKind().toLowerCase()) {
+            case "meal":
+                return isBlank(item.getDescription()) ? "식단 설명이 필요합니다" : null;
+            case "workout":
+                if (isBlank(item.getType())) {
+                    return "운동 종류가 필요합니다";
+                }
+                return isNegative(item.getDuration()) ? "운동 시간은 0 이상이어야 합니다" : null;
+            case "emotion":
+                if (isBlank(item.getMood())) {
+                    return "감정 상태가 필요합니다";
+                }
+                if (item.getStressLevel() != null && (item.getStressLevel() < 1 || item.getStressLevel() > 10)) {
+                    return "스트레스 수치는 1~10 사이여야 합니다";
+                }
+                return null;
+            default:
+                return "알 수 없는 kind: " + item.getKind();
+        }
+    }
+
+    @Transactional
+    public List<Map<String, Object>> saveBatch(User user, List<BatchSaveItem> items) {
+        LocalDate today = LocalDate.now();
+        List<MealLog> meals = new ArrayList<>();
+        List<WorkoutLog> workouts = new ArrayList<>();
+        List<EmotionLog> emotions = new ArrayList<>();
+        List<Object> entities = new ArrayList<>(items.size());
+
+        for (BatchSaveItem item : items) {
+            if (item == null || item.getKind() == null) {
+                throw new IllegalArgumentException("kind가 필요합니다 (meal, workout, emotion)");
+            }
+            LocalDate date = item.getDate() != null ? item.getDate() : today;
+            switch (item.getKind().toLowerCase()) {
+                case "meal":
+                    MealLog meal = MealLog.builder()
+                        .user(user)
+                        .description(item.getDescription())
+                        .photoUrl(item.getPhotoUrl())
+                        .caloriesEstimate(item.getCalories() != null ? item.getCalories() : 0)
+                        .date(date)
+                        .build();
+                    meals.add(meal);
+                    entities.add(meal);
+                    break;
+                case "workout":
+                    WorkoutLog workout = WorkoutLog.builder()
+                        .user(user)
+                        .type(item.getType())
+                        .intensity(item.getIntensity())
+                        .duration(item.getDuration() != null ? item.getDuration() : 0)
+                        .caloriesBurned(item.getCalories() != null ? item.getCalories() : 0)
+                        .date(date)
+                        .build();
+                    workouts.add(workout);
+                    entities.add(workout);
+                    break;
+                case "emotion":
+                    EmotionLog emotion = EmotionLog.builder()
+                        .user(user)
+                        .mood(item.getMood())
+                        .note(item.getNote() != null ? item.getNote() : "")
+                        .stressLevel(item.getStressLevel())
+                        .date(date)
+                        .build();
+                    emotions.add(emotion);
+                    entities.add(emotion);
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 kind: " + item.getKind());
+            }
+        }
+
+        mealService.saveAll(meals);
+        workoutService.saveAll(workouts);
+        emotionService.saveAll(emotions);
+
+        List<Map<String, Object>> results = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            Object entity = entities.get(i);
+            Long id;
+            LocalDate date;
+            String kind;
+            if (entity instanceof MealLog) {
+                id = ((MealLog) entity).getId();
+                date = ((MealLog) entity).getDate();
+                kind = "meal";
+            } else if (entity instanceof WorkoutLog) {
+                id = ((WorkoutLog) entity).getId();
+                date = ((WorkoutLog) entity).getDate();
+                kind = "workout";
+            } else {
+                id = ((EmotionLog) entity).getId();
+                date = ((EmotionLog) entity).getDate();
+                kind = "emotion";
+            }
+            results.add(Map.of("index", i, "kind", kind, "success", true, "id", id, "date", date.toString()));
+        }
+
+        log.info("일괄 저장 완료: 식단 {}건, 운동 {}건, 감정 {}건", meals.size(), workouts.size(), emotions.size());
+        return results;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private boolean isNegative(Integer value) {
+        return value != null && value < 0;
+    }
+}
@@ -0,0 +1,395 @@
+package com.mydiet.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydiet.dto.ClaudeReply;
+import com.mydiet.dto.ClaudeRequest;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class ClaudeGateway {
+
+    private static final String API_VERSION = "2023-06-01";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+        new ParameterizedTypeReference<>() {};
+
+    private final WebClient claudeWebClient;
+    private final JsonFactory jsonFactory;
+    private final ClaudeResilience claudeResilience;
+    private final ClaudeHealthMonitor claudeHealthMonitor;
+    private final String messagesUrl;
+    private final String apiKey;
+    private final Duration defaultTimeout;
+
+    public ClaudeGateway(WebClient claudeWebClient,
+                         ObjectMapper objectMapper,
+                         ClaudeResilience claudeResilience,
+                         ClaudeHealthMonitor claudeHealthMonitor,
+                         @Value("${claude.api.url:https://api.anthropic.com/v1/messages}") String messagesUrl,
+                         @Value("${claude.api.key}") String apiKey,
+                         @Value("${claude.client.timeout-seconds:60}") long timeoutSeconds) {
+        this.claudeWebClient = claudeWebClient;
+        this.jsonFactory = objectMapper.getFactory();
+        this.claudeResilience = claudeResilience;
+        this.claudeHealthMonitor = claudeHealthMonitor;
+        this.messagesUrl = messagesUrl;
+        this.apiKey = apiKey;
+        this.defaultTimeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    public Mono<ClaudeReply> send(ClaudeRequest request) {
+        Duration deadline = request.getTimeout() != null ? request.getTimeout() : defaultTimeout;
+
+        Mono<ClaudeReply> call = claudeWebClient.post()
+            .uri(messagesUrl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("x-api-key", apiKey)
+            .header("anthropic-version", API_VERSION)
+            .body(jsonBody(request, false))
+            .retrieve()
+            .onStatus(HttpStatus::isError, response -> response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> new UpstreamException(response.rawStatusCode(), body)))
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .<ClaudeReply>handle((buffer, sink) -> {
+                try (InputStream in = buffer.asInputStream(true); JsonParser parser = jsonFactory.createParser(in)) {
+                    sink.next(readReply(parser));
+                } catch (IOException e) {
+                    sink.error(e);
+                }
+            })
+            .timeout(deadline);
+
+        return claudeResilience.guard(observe(call))
+            .doOnError(e -> log.warn("Claude API 호출 실패: model={}, {}", request.getModel(), e.toString()));
+    }
+
+    public Flux<String> stream(ClaudeRequest request, Consumer<ClaudeReply> onUsage) {
+        Duration idleTimeout = request.getTimeout() != null ? request.getTimeout() : defaultTimeout;
+
+        Flux<String> call = Flux.defer(() -> {
+            ClaudeReply.ClaudeReplyBuilder usage = ClaudeReply.builder();
+            return claudeWebClient.post()
+                .uri(messagesUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("x-api-key", apiKey)
+                .header("anthropic-version", API_VERSION)
+                .body(jsonBody(request, true))
+                .retrieve()
+                .onStatus(HttpStatus::isError, response -> response.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(error -> new UpstreamException(response.rawStatusCode(), error)))
+                .bodyToFlux(SSE_TYPE)
+                .takeUntil(event -> "message_stop".equals(event.event()))
+                .<String>handle((event, sink) -> {
+                    String type = event.event();
+                    if ("content_block_delta".equals(type) && event.data() != null) {
+                        try (JsonParser parser = jsonFactory.createParser(event.data())) {
+                            String text = readDeltaText(parser);
+                            if (!text.isEmpty()) {
+                                sink.next(text);
+                            }
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                    } else if (("message_start".equals(type) || "message_delta".equals(type)) && event.data() != null) {
+                        try (JsonParser parser = jsonFactory.createParser(event.data())) {
+                            readStreamUsage(parser, usage);
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                    } else if ("message_stop".equals(type)) {
+                        onUsage.accept(usage.build());
+                    } else if ("error".equals(type)) {
+                        sink.error(new UpstreamException(529, String.valueOf(event.data())));
+                    }
+                })
+                .timeout(idleTimeout);
+        });
+
+        return claudeResilience.guard(observeFirst(call))
+            .doOnError(e -> log.warn("Claude 스트리밍 실패: model={}, {}", request.getModel(), e.toString()));
+    }
+
+    public boolean isApiKeyConfigured() {
+        return apiKey != null && !apiKey.trim().isEmpty() && apiKey.startsWith("sk-ant-");
+    }
+
+    private <T> Mono<T> observe(Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                .doOnSuccess(value -> claudeHealthMonitor.recordSuccess(System.nanoTime() - start))
+                .doOnError(e -> claudeHealthMonitor.recordFailure(System.nanoTime() - start, e));
+        });
+    }
+
+    private <T> Flux<T> observeFirst(Flux<T> call) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean observed = new AtomicBoolean();
+            return call
+                .doOnNext(value -> {
+                    if (observed.compareAndSet(false, true)) {
+                        claudeHealthMonitor.recordSuccess(System.nanoTime() - start);
+                    }
+                })
+                .doOnComplete(() -> {
+                    if (observed.compareAndSet(false, true)) {
+                        claudeHealthMonitor.recordSuccess(System.nanoTime() - start);
+                    }
+                })
+                .doOnError(e -> {
+                    if (observed.compareAndSet(false, true)) {
+                        claudeHealthMonitor.recordFailure(System.nanoTime() - start, e);
+                    }
+                });
+        });
+    }
+
+    private BodyInserter<Object, ClientHttpRequest> jsonBody(ClaudeRequest request, boolean stream) {
+        return (message, context) -> {
+            DataBuffer buffer = message.bufferFactory().allocateBuffer(estimateSize(request));
+            try (OutputStream out = buffer.asOutputStream();
+                 JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+                writeRequest(generator, request, stream);
+            } catch (IOException e) {
+                DataBufferUtils.release(buffer);
+                return Mono.error(e);
+            }
+            message.getHeaders().setContentLength(buffer.readableByteCount());
+            return message.writeWith(Mono.just(buffer));
+        };
+    }
+
+    private void writeRequest(JsonGenerator generator, ClaudeRequest request, boolean stream) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("model", request.getModel());
+        generator.writeNumberField("max_tokens", request.getMaxTokens());
+        writeSystem(generator, request.getSystemBlocks());
+        generator.writeArrayFieldStart("messages");
+        for (ClaudeRequest.Message message : request.getMessages()) {
+            generator.writeStartObject();
+            generator.writeStringField("role", message.getRole());
+            generator.writeStringField("content", message.getContent());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        if (stream) {
+            generator.writeBooleanField("stream", true);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeSystem(JsonGenerator generator, List<ClaudeRequest.SystemBlock> blocks) throws IOException {
+        if (blocks.isEmpty()) {
+            return;
+        }
+        if (blocks.size() == 1 && !blocks.get(0).isCached()) {
+            generator.writeStringField("system", blocks.get(0).getText());
+            return;
+        }
+
+        generator.writeArrayFieldStart("system");
+        for (ClaudeRequest.SystemBlock block : blocks) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "text");
+            generator.writeStringField("text", block.getText());
+            if (block.isCached()) {
+                generator.writeObjectFieldStart("cache_control");
+                generator.writeStringField("type", "ephemeral");
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private int estimateSize(ClaudeRequest request) {
+        int chars = 0;
+        for (ClaudeRequest.SystemBlock block : request.getSystemBlocks()) {
+            chars += block.getText().length();
+        }
+        for (ClaudeRequest.Message message : request.getMessages()) {
+            chars += message.getContent() != null ? message.getContent().length() : 0;
+        }
+        return 256 + chars * 3;
+    }
+
+    private ClaudeReply readReply(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Claude 응답이 JSON 객체가 아닙니다.");
+        }
+
+        ClaudeReply.ClaudeReplyBuilder reply = ClaudeReply.builder();
+        StringBuilder text = new StringBuilder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "content":
+                    readContent(parser, text);
+                    break;
+                case "usage":
+                    readUsage(parser, reply);
+                    break;
+                case "model":
+                    reply.model(parser.getValueAsString());
+                    break;
+                case "stop_reason":
+                    reply.stopReason(parser.getValueAsString());
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return reply.text(text.toString()).build();
+    }
+
+    private void readContent(JsonParser parser, StringBuilder text) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String type = null;
+            String blockText = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("type".equals(field)) {
+                    type = parser.getValueAsString();
+                } else if ("text".equals(field)) {
+                    blockText = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (blockText != null && (type == null || "text".equals(type))) {
+                text.append(blockText);
+            }
+        }
+    }
+
+    private void readUsage(JsonParser parser, ClaudeReply.ClaudeReplyBuilder reply) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("input_tokens".equals(field)) {
+                reply.inputTokens(parser.getValueAsInt(0));
+            } else if ("output_tokens".equals(field)) {
+                reply.outputTokens(parser.getValueAsInt(0));
+            } else if ("cache_read_input_tokens".equals(field)) {
+                reply.cacheReadInputTokens(parser.getValueAsInt(0));
+            } else if ("cache_creation_input_tokens".equals(field)) {
+                reply.cacheCreationInputTokens(parser.getValueAsInt(0));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readStreamUsage(JsonParser parser, ClaudeReply.ClaudeReplyBuilder usage) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("usage".equals(field)) {
+                readUsage(parser, usage);
+            } else if ("message".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String messageField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("usage".equals(messageField)) {
+                        readUsage(parser, usage);
+                    } else if ("model".equals(messageField)) {
+                        usage.model(parser.getValueAsString());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("delta".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String deltaField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("stop_reason".equals(deltaField)) {
+                        usage.stopReason(parser.getValueAsString());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private String readDeltaText(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return "";
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (!"delta".equals(field) || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String deltaField = parser.getCurrentName();
+                parser.nextToken();
+                if ("text".equals(deltaField)) {
+                    return parser.getValueAsString("");
+                }
+                parser.skipChildren();
+            }
+        }
+        return "";
+    }
+
+    @Getter
+    public static class UpstreamException extends RuntimeException {
+        private final int status;
+
+        public UpstreamException(int status, String body) {
+            super("Claude API 호출 실패: " + status + " - " + body);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.ClaudeHealth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Component
+public class ClaudeHealthMonitor {
+
+    private static final int MAX_ERROR_LENGTH = 200;
+
+    private final ClaudeResilience claudeResilience;
+    private final int downAfterFailures;
+    private final int degradedFailureRate;
+    private final AtomicReference<ClaudeHealth> health = new AtomicReference<>(ClaudeHealth.unknown());
+
+    private final long[] latencies;
+    private final boolean[] outcomes;
+    private int index;
+    private int recorded;
+    private int failures;
+    private int consecutiveFailures;
+    private long lastSuccessAt;
+    private long lastFailureAt;
+    private String lastError;
+
+    public ClaudeHealthMonitor(ClaudeResilience claudeResilience,
+                               @Value("${mydiet.ai-health.window-size:200}") int windowSize,
+                               @Value("${mydiet.ai-health.down-after-failures:3}") int downAfterFailures,
+                               @Value("${mydiet.ai-health.degraded-failure-rate:20}") int degradedFailureRate) {
+        this.claudeResilience = claudeResilience;
+        this.downAfterFailures = downAfterFailures;
+        this.degradedFailureRate = degradedFailureRate;
+        this.latencies = new long[windowSize];
+        this.outcomes = new boolean[windowSize];
+    }
+
+    public ClaudeHealth getHealth() {
+        return health.get();
+    }
+
+    public void recordSuccess(long latencyNanos) {
+        record(latencyNanos, null);
+    }
+
+    public void recordFailure(long latencyNanos, Throwable e) {
+        if (!ClaudeResilience.isFailure(e)) {
+            return;
+        }
+        record(latencyNanos, e);
+    }
+
+    public synchronized long getLastObservedAt() {
+        return Math.max(lastSuccessAt, lastFailureAt);
+    }
+
+    public ClaudeHealth refresh(boolean apiKeyConfigured) {
+        ClaudeResilience.State circuit = claudeResilience.getState();
+        long[] sorted;
+        int failureRate;
+        int consecutive;
+        long success;
+        long failure;
+        String error;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, recorded);
+            failureRate = recorded == 0 ? 0 : failures * 100 / recorded;
+            consecutive = consecutiveFailures;
+            success = lastSuccessAt;
+            failure = lastFailureAt;
+            error = lastError;
+        }
+        Arrays.sort(sorted);
+
+        ClaudeHealth.Status status;
+        if (!apiKeyConfigured) {
+            status = ClaudeHealth.Status.DISABLED;
+        } else if (circuit == ClaudeResilience.State.OPEN || consecutive >= downAfterFailures) {
+            status = ClaudeHealth.Status.DOWN;
+        } else if (sorted.length == 0) {
+            status = ClaudeHealth.Status.UNKNOWN;
+        } else if (circuit == ClaudeResilience.State.HALF_OPEN || failureRate >= degradedFailureRate) {
+            status = ClaudeHealth.Status.DEGRADED;
+        } else {
+            status = ClaudeHealth.Status.UP;
+        }
+
+        ClaudeHealth next = new ClaudeHealth(status, circuit.name(), sorted.length, failureRate, consecutive,
+            percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+            sorted.length > 0 ? sorted[sorted.length - 1] : 0,
+            toDateTime(success), toDateTime(failure), error, LocalDateTime.now());
+
+        ClaudeHealth previous = health.getAndSet(next);
+        if (previous.getStatus() != status) {
+            if (next.isAvailable()) {
+                log.info("Claude 서비스 상태 변경: {} → {}", previous.getStatus(), status);
+            } else {
+                log.warn("Claude 서비스 상태 변경: {} → {} ({})", previous.getStatus(), status, error);
+            }
+        }
+        return next;
+    }
+
+    private synchronized void record(long latencyNanos, Throwable error) {
+        boolean failed = error != null;
+        if (recorded == latencies.length) {
+            if (outcomes[index]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        latencies[index] = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        outcomes[index] = failed;
+        index = (index + 1) % latencies.length;
+
+        if (failed) {
+            failures++;
+            consecutiveFailures++;
+            lastFailureAt = System.currentTimeMillis();
+            String message = error.toString();
+            lastError = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        } else {
+            consecutiveFailures = 0;
+            lastSuccessAt = System.currentTimeMillis();
+        }
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return epochMillis == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
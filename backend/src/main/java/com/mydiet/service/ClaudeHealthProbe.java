@@ -0,0 +1,57 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.ClaudeRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class ClaudeHealthProbe {
+
+    private static final String PROBE_MODEL = "claude-3-haiku-20240307";
+
+    private final ClaudeGateway claudeGateway;
+    private final ClaudeHealthMonitor claudeHealthMonitor;
+    private final boolean enabled;
+    private final long probeMillis;
+    private final ClaudeRequest probeRequest;
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    public ClaudeHealthProbe(ClaudeGateway claudeGateway,
+                             ClaudeHealthMonitor claudeHealthMonitor,
+                             @Value("${mydiet.ai-health.probe-enabled:true}") boolean enabled,
+                             @Value("${mydiet.ai-health.probe-ms:60000}") long probeMillis,
+                             @Value("${mydiet.ai-health.probe-timeout-seconds:10}") long probeTimeoutSeconds) {
+        this.claudeGateway = claudeGateway;
+        this.claudeHealthMonitor = claudeHealthMonitor;
+        this.enabled = enabled;
+        this.probeMillis = probeMillis;
+        this.probeRequest = ClaudeRequest.builder()
+            .model(PROBE_MODEL)
+            .maxTokens(1)
+            .message(ClaudeRequest.Message.user("ping"))
+            .timeout(Duration.ofSeconds(probeTimeoutSeconds))
+            .build();
+    }
+
+    @Scheduled(fixedDelayString = "${mydiet.ai-health.refresh-ms:5000}")
+    public void tick() {
+        boolean apiKeyConfigured = claudeGateway.isApiKeyConfigured();
+        if (enabled && apiKeyConfigured
+            && System.currentTimeMillis() - claudeHealthMonitor.getLastObservedAt() >= probeMillis
+            && probing.compareAndSet(false, true)) {
+            claudeGateway.send(probeRequest)
+                .doFinally(signal -> {
+                    probing.set(false);
+                    claudeHealthMonitor.refresh(apiKeyConfigured);
+                })
+                .subscribe(reply -> { }, e -> log.debug("Claude 상태 점검 호출 실패: {}", e.toString()));
+        }
+        claudeHealthMonitor.refresh(apiKeyConfigured);
+    }
+}
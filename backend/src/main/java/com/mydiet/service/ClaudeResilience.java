@@ -0,0 +1,215 @@
+package com.mydiet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class ClaudeResilience {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openMillis;
+    private final int halfOpenCalls;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    private final boolean[] outcomes;
+    private int index;
+    private int recorded;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    public ClaudeResilience(@Value("${claude.resilience.window-size:50}") int windowSize,
+                            @Value("${claude.resilience.minimum-calls:10}") int minimumCalls,
+                            @Value("${claude.resilience.failure-rate-threshold:50}") int failureRateThreshold,
+                            @Value("${claude.resilience.open-seconds:30}") long openSeconds,
+                            @Value("${claude.resilience.half-open-calls:3}") int halfOpenCalls,
+                            @Value("${claude.resilience.max-concurrent-calls:20}") int maxConcurrentCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openSeconds * 1000;
+        this.halfOpenCalls = halfOpenCalls;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.outcomes = new boolean[windowSize];
+    }
+
+    public <T> Mono<T> guard(Mono<T> call) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            return call
+                .doOnSuccess(value -> permit.complete(false))
+                .doOnError(e -> permit.complete(isFailure(e)))
+                .doOnCancel(() -> permit.complete(null));
+        });
+    }
+
+    public <T> Flux<T> guard(Flux<T> call) {
+        return Flux.defer(() -> {
+            Permit permit = acquire();
+            return call
+                .doOnComplete(() -> permit.complete(false))
+                .doOnError(e -> permit.complete(isFailure(e)))
+                .doOnCancel(() -> permit.complete(null));
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public Map<String, Object> getStats() {
+        synchronized (this) {
+            return Map.of(
+                "state", state.name(),
+                "failureRate", recorded == 0 ? 0 : failures * 100 / recorded,
+                "bufferedCalls", recorded,
+                "availableConcurrentCalls", bulkhead.availablePermits(),
+                "maxConcurrentCalls", maxConcurrentCalls,
+                "rejectedCalls", rejectedCalls.get()
+            );
+        }
+    }
+
+    private Permit acquire() {
+        boolean trial = false;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openMillis) {
+                    throw reject("Claude 서킷 브레이커가 열려 있어 호출을 차단합니다.");
+                }
+                state = State.HALF_OPEN;
+                halfOpenInFlight = 0;
+                halfOpenSucceeded = 0;
+                log.info("Claude 서킷 브레이커 HALF_OPEN 전환");
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight + halfOpenSucceeded >= halfOpenCalls) {
+                    throw reject("Claude 서킷 브레이커 시험 호출 대기 중입니다.");
+                }
+                halfOpenInFlight++;
+                trial = true;
+            }
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            if (trial) {
+                onResult(true, null);
+            }
+            throw reject("Claude 동시 호출 한도(" + maxConcurrentCalls + ")를 초과했습니다.");
+        }
+        return new Permit(trial);
+    }
+
+    private CallRejectedException reject(String message) {
+        rejectedCalls.incrementAndGet();
+        return new CallRejectedException(message);
+    }
+
+    private synchronized void onResult(boolean trial, Boolean failed) {
+        if (trial) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            halfOpenInFlight--;
+            if (failed == null) {
+                return;
+            }
+            if (failed) {
+                open();
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+
+        if (failed == null || state != State.CLOSED) {
+            return;
+        }
+
+        if (recorded == windowSize) {
+            if (outcomes[index]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % windowSize;
+
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    private void open() {
+        log.warn("Claude 서킷 브레이커 OPEN 전환: 실패율 {}/{}", failures, recorded);
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        resetWindow();
+    }
+
+    private void close() {
+        log.info("Claude 서킷 브레이커 CLOSED 전환");
+        state = State.CLOSED;
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        index = 0;
+        recorded = 0;
+        failures = 0;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+    }
+
+    static boolean isFailure(Throwable e) {
+        if (e instanceof ClaudeGateway.UpstreamException) {
+            int status = ((ClaudeGateway.UpstreamException) e).getStatus();
+            return status >= 500 || status == 429 || status == 408;
+        }
+        return true;
+    }
+
+    private class Permit {
+        private final boolean trial;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Permit(boolean trial) {
+            this.trial = trial;
+        }
+
+        void complete(Boolean failed) {
+            if (done.compareAndSet(false, true)) {
+                bulkhead.release();
+                onResult(trial, failed);
+            }
+        }
+    }
+
+    public static class CallRejectedException extends RuntimeException {
+        public CallRejectedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.mydiet.service;
+
+import com.mydiet.model.ClaudeResponse;
+import com.mydiet.repository.ClaudeResponseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class ClaudeResponseWriter {
+
+    private final ClaudeResponseRepository claudeResponseRepository;
+    private final AiRateLimiter aiRateLimiter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushMillis;
+    private final long shutdownMillis;
+    private final BlockingQueue<ClaudeResponse> queue;
+    private final Map<Long, List<ClaudeResponse>> pendingByUser = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong batchedRows = new AtomicLong();
+    private final AtomicLong syncWrites = new AtomicLong();
+    private final AtomicLong userFlushes = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile int maxBatchSize;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ClaudeResponseWriter(ClaudeResponseRepository claudeResponseRepository,
+                                AiRateLimiter aiRateLimiter,
+                                @Value("${mydiet.response-writer.enabled:true}") boolean enabled,
+                                @Value("${mydiet.response-writer.capacity:10000}") int capacity,
+                                @Value("${mydiet.response-writer.batch-size:50}") int batchSize,
+                                @Value("${mydiet.response-writer.flush-ms:200}") long flushMillis,
+                                @Value("${mydiet.response-writer.shutdown-ms:10000}") long shutdownMillis) {
+        this.claudeResponseRepository = claudeResponseRepository;
+        this.aiRateLimiter = aiRateLimiter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.shutdownMillis = shutdownMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Claude 응답 비동기 저장 비활성화: 동기 저장 사용");
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "claude-response-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        log.info("=== Claude 응답 저장 큐 종료: 대기 {}건 ===", queue.size());
+        running = false;
+        worker.join(shutdownMillis);
+
+        List<ClaudeResponse> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            synchronized (writeLock) {
+                writeQueued(batch);
+            }
+            batch.clear();
+        }
+        log.info("Claude 응답 저장 큐 종료 완료: 저장 {}건, 실패 {}건", written.get(), failed.get());
+    }
+
+    public void enqueue(ClaudeResponse response) {
+        Long userId = response.getUser().getId();
+        aiRateLimiter.charge(userId);
+        if (running) {
+            pendingByUser.compute(userId, (key, rows) -> {
+                List<ClaudeResponse> pending = rows != null ? rows : new ArrayList<>();
+                pending.add(response);
+                return pending;
+            });
+            if (queue.offer(response)) {
+                enqueued.incrementAndGet();
+                if (running || !queue.remove(response)) {
+                    return;
+                }
+            }
+            release(response);
+        }
+
+        syncWrites.incrementAndGet();
+        write(List.of(response));
+    }
+
+    public List<ClaudeResponse> pending(Long userId) {
+        List<ClaudeResponse> rows = new ArrayList<>();
+        if (userId != null) {
+            pendingByUser.computeIfPresent(userId, (key, pending) -> {
+                rows.addAll(pending);
+                return pending;
+            });
+        }
+        return rows;
+    }
+
+    public void flushUser(Long userId) {
+        if (userId == null || !pendingByUser.containsKey(userId)) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            List<ClaudeResponse> mine = new ArrayList<>();
+            queue.removeIf(response -> {
+                if (userId.equals(response.getUser().getId())) {
+                    mine.add(response);
+                    return true;
+                }
+                return false;
+            });
+            if (!mine.isEmpty()) {
+                userFlushes.incrementAndGet();
+                writeQueued(mine);
+            }
+
+            long deadline = System.currentTimeMillis() + shutdownMillis;
+            while (pendingByUser.containsKey(userId)) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.warn("Claude 응답 저장 대기 시간 초과: userId={}", userId);
+                    return;
+                }
+                try {
+                    writeLock.wait(Math.min(remaining, flushMillis));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long batchCount = batches.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", running);
+        stats.put("queueDepth", queue.size());
+        stats.put("queueCapacity", queue.size() + queue.remainingCapacity());
+        stats.put("pendingUsers", pendingByUser.size());
+        stats.put("enqueued", enqueued.get());
+        stats.put("written", written.get());
+        stats.put("batches", batchCount);
+        stats.put("lastBatchSize", lastBatchSize);
+        stats.put("maxBatchSize", maxBatchSize);
+        stats.put("avgBatchSize", batchCount > 0 ? (double) batchedRows.get() / batchCount : 0.0);
+        stats.put("syncWrites", syncWrites.get());
+        stats.put("userFlushes", userFlushes.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    private void drainLoop() {
+        List<ClaudeResponse> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ClaudeResponse first = queue.poll(flushMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    ClaudeResponse next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                synchronized (writeLock) {
+                    writeQueued(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Claude 응답 저장 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ClaudeResponse> batch) {
+        try {
+            claudeResponseRepository.saveAll(batch);
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            log.warn("Claude 응답 일괄 저장 실패, 개별 저장 시도: {}건", batch.size(), e);
+            for (ClaudeResponse response : batch) {
+                try {
+                    claudeResponseRepository.save(response);
+                    written.incrementAndGet();
+                } catch (Exception single) {
+                    failed.incrementAndGet();
+                    log.error("Claude 응답 저장 실패: userId={}, type={}",
+                        response.getUser().getId(), response.getType(), single);
+                }
+            }
+        }
+    }
+
+    private void writeQueued(List<ClaudeResponse> batch) {
+        try {
+            write(batch);
+        } finally {
+            batches.incrementAndGet();
+            batchedRows.addAndGet(batch.size());
+            lastBatchSize = batch.size();
+            maxBatchSize = Math.max(maxBatchSize, batch.size());
+            batch.forEach(this::release);
+            writeLock.notifyAll();
+        }
+    }
+
+    private void release(ClaudeResponse response) {
+        pendingByUser.computeIfPresent(response.getUser().getId(), (key, pending) -> {
+            pending.removeIf(row -> row == response);
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.ClaudeRequest;
+import com.mydiet.dto.ConversationContext;
+import com.mydiet.model.ClaudeResponse;
+import com.mydiet.repository.ClaudeResponseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class ConversationContextService {
+
+    private static final String QUESTION_TYPE = "question";
+    private static final int SUMMARY_SNIPPET_LENGTH = 60;
+
+    private final ClaudeResponseRepository claudeResponseRepository;
+    private final ClaudeResponseWriter claudeResponseWriter;
+    private final int maxTurns;
+    private final int turnTokenBudget;
+    private final int summaryTurns;
+    private final int summaryTokenBudget;
+    private final long ttlMillis;
+    private final Map<Long, CachedSummary> summaries;
+
+    public ConversationContextService(ClaudeResponseRepository claudeResponseRepository,
+                                      ClaudeResponseWriter claudeResponseWriter,
+                                      @Value("${mydiet.conversation.max-turns:6}") int maxTurns,
+                                      @Value("${mydiet.conversation.turn-token-budget:1200}") int turnTokenBudget,
+                                      @Value("${mydiet.conversation.summary-turns:20}") int summaryTurns,
+                                      @Value("${mydiet.conversation.summary-token-budget:300}") int summaryTokenBudget,
+                                      @Value("${mydiet.conversation.cache-size:2000}") int cacheSize,
+                                      @Value("${mydiet.conversation.cache-ttl-seconds:3600}") long ttlSeconds) {
+        this.claudeResponseRepository = claudeResponseRepository;
+        this.claudeResponseWriter = claudeResponseWriter;
+        this.maxTurns = maxTurns;
+        this.turnTokenBudget = turnTokenBudget;
+        this.summaryTurns = summaryTurns;
+        this.summaryTokenBudget = summaryTokenBudget;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.summaries = Collections.synchronizedMap(new LinkedHashMap<Long, CachedSummary>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSummary> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public ConversationContext load(Long userId) {
+        if (userId == null) {
+            return ConversationContext.empty();
+        }
+
+        List<ClaudeResponse> recent = withPending(userId, claudeResponseRepository.findByUserIdAndTypeOrderByCreatedAtDesc(
+            userId, QUESTION_TYPE, PageRequest.of(0, maxTurns)));
+
+        List<ClaudeResponse> kept = new ArrayList<>();
+        int used = 0;
+        int index = 0;
+        for (; index < recent.size(); index++) {
+            ClaudeResponse turn = recent.get(index);
+            if (!isUsable(turn)) {
+                continue;
+            }
+            int cost = estimateTokens(turn.getPrompt()) + estimateTokens(turn.getContent());
+            if (used + cost > turnTokenBudget) {
+                break;
+            }
+            kept.add(turn);
+            used += cost;
+        }
+
+        List<ClaudeResponse> folded = recent.subList(index, recent.size());
+        String summary = null;
+        if (!recent.isEmpty() && (!folded.isEmpty() || recent.size() == maxTurns)) {
+            summary = summarize(userId, folded, recent.get(recent.size() - 1));
+        }
+
+        List<ClaudeRequest.Message> turns = new ArrayList<>(kept.size() * 2);
+        for (int i = kept.size() - 1; i >= 0; i--) {
+            turns.add(ClaudeRequest.Message.user(kept.get(i).getPrompt()));
+            turns.add(ClaudeRequest.Message.assistant(kept.get(i).getContent()));
+        }
+        return new ConversationContext(summary, turns, used + estimateTokens(summary));
+    }
+
+    public void evict(Long userId) {
+        summaries.remove(userId);
+    }
+
+    public static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int wide = 0;
+        int narrow = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x1100 && !Character.isSurrogate(c)) {
+                wide++;
+            } else {
+                narrow++;
+            }
+        }
+        return wide + (narrow + 3) / 4;
+    }
+
+    private List<ClaudeResponse> withPending(Long userId, List<ClaudeResponse> stored) {
+        List<ClaudeResponse> pending = claudeResponseWriter.pending(userId);
+        if (pending.isEmpty()) {
+            return stored;
+        }
+
+        Set<Long> storedIds = new HashSet<>();
+        stored.forEach(turn -> storedIds.add(turn.getId()));
+        List<ClaudeResponse> merged = new ArrayList<>(stored);
+        for (ClaudeResponse turn : pending) {
+            if (QUESTION_TYPE.equals(turn.getType()) && (turn.getId() == null || !storedIds.contains(turn.getId()))) {
+                merged.add(turn);
+            }
+        }
+        merged.sort(Comparator.comparing(ClaudeResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return merged.size() > maxTurns ? merged.subList(0, maxTurns) : merged;
+    }
+
+    private String summarize(Long userId, List<ClaudeResponse> folded, ClaudeResponse oldestLoaded) {
+        Long oldestId = oldestLoaded.getId();
+        Long anchorId = folded.isEmpty() ? (oldestId != null ? -oldestId : null) : folded.get(0).getId();
+        long now = System.currentTimeMillis();
+        CachedSummary cached = summaries.get(userId);
+        if (cached != null && Objects.equals(cached.anchorId, anchorId) && now - cached.cachedAt < ttlMillis) {
+            return cached.summary;
+        }
+
+        List<ClaudeResponse> source = new ArrayList<>(folded);
+        if (source.size() < summaryTurns) {
+            source.addAll(claudeResponseRepository.findByUserIdAndTypeAndCreatedAtBeforeOrderByCreatedAtDesc(
+                userId, QUESTION_TYPE, oldestLoaded.getCreatedAt(), PageRequest.of(0, summaryTurns - source.size())));
+        }
+
+        List<String> lines = new ArrayList<>();
+        int used = 0;
+        for (ClaudeResponse turn : source) {
+            if (!isUsable(turn)) {
+                continue;
+            }
+            String line = "- Q: " + snippet(turn.getPrompt()) + " → A: " + snippet(turn.getContent());
+            int cost = estimateTokens(line);
+            if (used + cost > summaryTokenBudget) {
+                break;
+            }
+            lines.add(line);
+            used += cost;
+        }
+
+        String summary = null;
+        if (!lines.isEmpty()) {
+            Collections.reverse(lines);
+            summary = "이전 대화 요약 (오래된 순):\n" + String.join("\n", lines);
+        }
+        if (anchorId != null) {
+            summaries.put(userId, new CachedSummary(anchorId, summary, now));
+        }
+        log.debug("대화 요약 갱신: userId={}, {}턴", userId, lines.size());
+        return summary;
+    }
+
+    private boolean isUsable(ClaudeResponse turn) {
+        return turn.getPrompt() != null && !turn.getPrompt().isBlank()
+            && turn.getContent() != null && !turn.getContent().isBlank();
+    }
+
+    private String snippet(String text) {
+        String flat = text.replace('\n', ' ').trim();
+        return flat.length() > SUMMARY_SNIPPET_LENGTH ? flat.substring(0, SUMMARY_SNIPPET_LENGTH) + "…" : flat;
+    }
+
+    private static final class CachedSummary {
+        private final Long anchorId;
+        private final String summary;
+        private final long cachedAt;
+
+        private CachedSummary(Long anchorId, String summary, long cachedAt) {
+            this.anchorId = anchorId;
+            this.summary = summary;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.mydiet.service;
+
+import com.mydiet.model.User;
+import com.mydiet.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+public class CurrentUserService {
+
+    private static final String REQUEST_USER_ID = CurrentUserService.class.getName() + ".userId";
+    private static final String REQUEST_USER = CurrentUserService.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<Long, CachedUser> cache;
+    private final AtomicReference<Long> fallbackUserId = new AtomicReference<>();
+
+    public CurrentUserService(UserRepository userRepository,
+                              @Value("${mydiet.user-cache.max-size:1000}") int maxSize,
+                              @Value("${mydiet.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<Long, CachedUser>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public Long resolveUserId(HttpServletRequest request) {
+        Object memoized = request.getAttribute(REQUEST_USER_ID);
+        if (memoized != null) {
+            return (Long) memoized;
+        }
+
+        Long userId = getSessionUserId(request.getSession(false));
+        if (userId == null) {
+            userId = getFallbackUserId();
+        }
+
+        if (userId != null) {
+            request.setAttribute(REQUEST_USER_ID, userId);
+        }
+        return userId;
+    }
+
+    public User resolveUser(HttpServletRequest request) {
+        Object memoized = request.getAttribute(REQUEST_USER);
+        if (memoized != null) {
+            return (User) memoized;
+        }
+
+        Long userId = resolveUserId(request);
+        if (userId == null) {
+            return null;
+        }
+
+        User user = getUser(userId);
+        if (user != null) {
+            request.setAttribute(REQUEST_USER, user);
+        }
+        return user;
+    }
+
+    public User getUser(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedUser cached = cache.get(userId);
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            return copyOf(cached.user);
+        }
+
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            cache.remove(userId);
+            return null;
+        }
+        cache.put(userId, new CachedUser(copyOf(user), now));
+        return copyOf(user);
+    }
+
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.remove(userId);
+        if (userId.equals(fallbackUserId.get())) {
+            fallbackUserId.set(null);
+        }
+        log.debug("사용자 캐시 제거: userId={}", userId);
+    }
+
+    private static User copyOf(User user) {
+        return User.builder()
+            .id(user.getId())
+            .nickname(user.getNickname())
+            .email(user.getEmail())
+            .password(user.getPassword())
+            .provider(user.getProvider())
+            .providerId(user.getProviderId())
+            .weightGoal(user.getWeightGoal())
+            .height(user.getHeight())
+            .currentWeight(user.getCurrentWeight())
+            .emotionMode(user.getEmotionMode())
+            .role(user.getRole())
+            .createdAt(user.getCreatedAt())
+            .updatedAt(user.getUpdatedAt())
+            .build();
+    }
+
+    private Long getSessionUserId(HttpSession session) {
+        if (session == null) {
+            return null;
+        }
+        Long userId = (Long) session.getAttribute("userId");
+        Boolean authenticated = (Boolean) session.getAttribute("authenticated");
+        return Boolean.TRUE.equals(authenticated) ? userId : null;
+    }
+
+    private Long getFallbackUserId() {
+        Long userId = fallbackUserId.get();
+        if (userId != null) {
+            return userId;
+        }
+
+        userId = userRepository.findFirstByOrderByIdAsc()
+            .map(User::getId)
+            .orElse(null);
+        if (userId != null) {
+            fallbackUserId.compareAndSet(null, userId);
+        }
+        return userId;
+    }
+
+    private static final class CachedUser {
+        private final User user;
+        private final long loadedAt;
+
+        private CachedUser(User user, long loadedAt) {
+            this.user = user;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.PregenerationStats;
+import com.mydiet.repository.UserDailySummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class DailyAdvicePregenerationService {
+
+    private final UserDailySummaryRepository userDailySummaryRepository;
+    private final DailySnapshotService dailySnapshotService;
+    private final ClaudeAIService claudeAIService;
+    private final ClaudeResilience claudeResilience;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int concurrency;
+    private final int activeDays;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private volatile LocalDate targetDate;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    public DailyAdvicePregenerationService(UserDailySummaryRepository userDailySummaryRepository,
+                                           DailySnapshotService dailySnapshotService,
+                                           ClaudeAIService claudeAIService,
+                                           ClaudeResilience claudeResilience,
+                                           @Value("${mydiet.advice-pregeneration.enabled:true}") boolean enabled,
+                                           @Value("${mydiet.advice-pregeneration.page-size:200}") int pageSize,
+                                           @Value("${mydiet.advice-pregeneration.concurrency:4}") int concurrency,
+                                           @Value("${mydiet.advice-pregeneration.active-days:7}") int activeDays) {
+        this.userDailySummaryRepository = userDailySummaryRepository;
+        this.dailySnapshotService = dailySnapshotService;
+        this.claudeAIService = claudeAIService;
+        this.claudeResilience = claudeResilience;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.activeDays = activeDays;
+    }
+
+    @Scheduled(cron = "${mydiet.advice-pregeneration.cron:0 5 0 * * *}")
+    public void runNightly() {
+        if (!enabled) {
+            return;
+        }
+        run(LocalDate.now());
+    }
+
+    @Async
+    public void runAsync(LocalDate date) {
+        run(date);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public boolean run(LocalDate date) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("일일 조언 사전 생성이 이미 실행 중입니다.");
+            return false;
+        }
+
+        log.info("=== 일일 조언 사전 생성 시작: date={} ===", date);
+        targetDate = date;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        lastError = null;
+        processed.set(0);
+        succeeded.set(0);
+        failed.set(0);
+        skipped.set(0);
+
+        try {
+            LocalDate since = date.minusDays(activeDays);
+            long cursor = 0;
+            while (true) {
+                if (claudeResilience.getState() == ClaudeResilience.State.OPEN) {
+                    lastError = "Claude 서킷 브레이커가 열려 있어 중단했습니다.";
+                    log.warn("일일 조언 사전 생성 중단: {}", lastError);
+                    break;
+                }
+
+                List<Long> userIds = userDailySummaryRepository.findActiveUserIdsAfter(since, cursor, pageSize).stream()
+                    .map(Number::longValue)
+                    .collect(Collectors.toList());
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                Flux.fromIterable(userIds)
+                    .flatMap(userId -> generate(userId, date), concurrency)
+                    .then()
+                    .block();
+
+                cursor = userIds.get(userIds.size() - 1);
+                log.info("일일 조언 사전 생성 진행: 처리 {}명, 성공 {}, 실패 {}", processed.get(), succeeded.get(), failed.get());
+            }
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("일일 조언 사전 생성 실패", e);
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+
+        log.info("=== 일일 조언 사전 생성 완료: 처리 {}명, 성공 {}, 실패 {}, 건너뜀 {} ===",
+            processed.get(), succeeded.get(), failed.get(), skipped.get());
+        return true;
+    }
+
+    public PregenerationStats getStats() {
+        if (startedAt == null) {
+            return PregenerationStats.idle();
+        }
+        return new PregenerationStats(running.get(), targetDate, startedAt, finishedAt,
+            processed.get(), succeeded.get(), failed.get(), skipped.get(), lastError);
+    }
+
+    private Mono<Void> generate(Long userId, LocalDate date) {
+        return Mono.fromCallable(() -> dailySnapshotService.getSnapshot(userId, date))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(snapshot -> {
+                if (snapshot.isEmpty() || snapshot.get().getUser() == null) {
+                    skipped.incrementAndGet();
+                    return Mono.empty();
+                }
+                return claudeAIService.prepareDailyAdvice(snapshot.get())
+                    .doOnNext(advice -> succeeded.incrementAndGet());
+            })
+            .onErrorResume(e -> {
+                failed.incrementAndGet();
+                log.warn("일일 조언 사전 생성 실패: userId={}, {}", userId, e.toString());
+                return Mono.empty();
+            })
+            .doFinally(signal -> processed.incrementAndGet())
+            .then();
+    }
+}
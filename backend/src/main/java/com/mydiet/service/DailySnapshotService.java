@@ -0,0 +1,30 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.TodaySnapshot;
+import com.mydiet.repository.DailySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class DailySnapshotService {
+
+    private final DailySnapshotRepository dailySnapshotRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<TodaySnapshot> getTodaySnapshot(Long userId) {
+        return getSnapshot(userId, LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TodaySnapshot> getSnapshot(Long userId, LocalDate date) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return dailySnapshotRepository.findSnapshot(userId, date);
+    }
+}
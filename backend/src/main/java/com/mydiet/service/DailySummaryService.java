@@ -0,0 +1,130 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.TodaySnapshot;
+import com.mydiet.model.EmotionLog;
+import com.mydiet.model.MealLog;
+import com.mydiet.model.UserDailySummary;
+import com.mydiet.model.WorkoutLog;
+import com.mydiet.repository.EmotionLogRepository;
+import com.mydiet.repository.MealLogRepository;
+import com.mydiet.repository.UserDailySummaryRepository;
+import com.mydiet.repository.WorkoutLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailySummaryService {
+
+    private final UserDailySummaryRepository userDailySummaryRepository;
+    private final AdviceCacheService adviceCacheService;
+    private final DailySnapshotService dailySnapshotService;
+    private final MealLogRepository mealLogRepository;
+    private final WorkoutLogRepository workoutLogRepository;
+    private final EmotionLogRepository emotionLogRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public UserDailySummary getSummary(Long userId, LocalDate date) {
+        return userDailySummaryRepository.findById(new UserDailySummary.Key(userId, date))
+            .orElseGet(() -> UserDailySummary.empty(userId, date));
+    }
+
+    @Transactional(readOnly = true)
+    public UserDailySummary getTodaySummary(Long userId) {
+        return getSummary(userId, LocalDate.now());
+    }
+
+    @Transactional
+    public void recordMeal(MealLog meal) {
+        userDailySummaryRepository.addMeal(meal.getUser().getId(), meal.getDate(),
+            meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0);
+        evictAdvice(meal.getUser().getId(), meal.getDate());
+    }
+
+    @Transactional
+    public void recordWorkout(WorkoutLog workout) {
+        userDailySummaryRepository.addWorkout(workout.getUser().getId(), workout.getDate(),
+            workout.getCaloriesBurned() != null ? workout.getCaloriesBurned() : 0,
+            workout.getDuration() != null ? workout.getDuration() : 0);
+        evictAdvice(workout.getUser().getId(), workout.getDate());
+    }
+
+    @Transactional
+    public void recordEmotion(EmotionLog emotion) {
+        userDailySummaryRepository.addEmotion(emotion.getUser().getId(), emotion.getDate(), emotion.getMood());
+        evictAdvice(emotion.getUser().getId(), emotion.getDate());
+    }
+
+    @Transactional
+    public void rebuild(Long userId, LocalDate date) {
+        entityManager.flush();
+        userDailySummaryRepository.rebuild(userId, date);
+        evictAdvice(userId, date);
+    }
+
+    @Transactional
+    public void rebuild(Collection<UserDailySummary.Key> keys) {
+        entityManager.flush();
+        new LinkedHashSet<>(keys).forEach(key -> {
+            userDailySummaryRepository.rebuild(key.getUserId(), key.getDate());
+            evictAdvice(key.getUserId(), key.getDate());
+        });
+    }
+
+    @Transactional
+    public Map<String, Integer> deleteToday(Long userId) {
+        TodaySnapshot snapshot = dailySnapshotService.getTodaySnapshot(userId)
+            .orElseGet(() -> TodaySnapshot.empty(LocalDate.now()));
+
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        deleted.put("meals", snapshot.getMeals().size());
+        deleted.put("workouts", snapshot.getWorkouts().size());
+        deleted.put("emotions", snapshot.getEmotions().size());
+        if (snapshot.getMeals().isEmpty() && snapshot.getWorkouts().isEmpty() && snapshot.getEmotions().isEmpty()) {
+            return deleted;
+        }
+
+        mealLogRepository.deleteAllByIdInBatch(snapshot.getMeals().stream()
+            .map(TodaySnapshot.MealItem::getId)
+            .collect(Collectors.toList()));
+        workoutLogRepository.deleteAllByIdInBatch(snapshot.getWorkouts().stream()
+            .map(TodaySnapshot.WorkoutItem::getId)
+            .collect(Collectors.toList()));
+        emotionLogRepository.deleteAllByIdInBatch(snapshot.getEmotions().stream()
+            .map(TodaySnapshot.EmotionItem::getId)
+            .collect(Collectors.toList()));
+        rebuild(userId, snapshot.getDate());
+
+        log.info("오늘 기록 삭제 완료: userId={}, 삭제 건수={}", userId, deleted);
+        return deleted;
+    }
+
+    @Transactional
+    public int rebuildAll() {
+        log.info("=== 일일 요약 전체 재생성 시작 ===");
+        entityManager.flush();
+        userDailySummaryRepository.deleteAllRows();
+        int rows = userDailySummaryRepository.backfillAll();
+        log.info("일일 요약 재생성 완료: {}행", rows);
+        return rows;
+    }
+
+    private void evictAdvice(Long userId, LocalDate date) {
+        AfterCommit.run(() -> adviceCacheService.evict(userId, date));
+    }
+}
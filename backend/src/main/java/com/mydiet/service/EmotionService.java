@@ -3,13 +3,18 @@ package com.mydiet.service;
 import com.mydiet.dto.EmotionRequest;
 import com.mydiet.model.EmotionLog;
 import com.mydiet.model.User;
+import com.mydiet.model.UserDailySummary;
 import com.mydiet.repository.EmotionLogRepository;
 import com.mydiet.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,7 +22,9 @@ public class EmotionService {
 
     private final EmotionLogRepository emotionLogRepository;
     private final UserRepository userRepository;
+    private final DailySummaryService dailySummaryService;
 
+    @Transactional
     public EmotionLog saveEmotion(EmotionRequest request) {
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -29,7 +36,29 @@ public class EmotionService {
             .date(request.getDate() != null ? request.getDate() : LocalDate.now())
             .build();
 
-        return emotionLogRepository.save(emotionLog);
+        return save(emotionLog);
+    }
+
+    @Transactional
+    public EmotionLog save(EmotionLog emotion) {
+        EmotionLog saved = emotionLogRepository.save(emotion);
+        dailySummaryService.recordEmotion(saved);
+        return saved;
+    }
+
+    @Transactional
+    public List<EmotionLog> saveAll(List<EmotionLog> emotions) {
+        List<EmotionLog> saved = emotionLogRepository.saveAll(emotions);
+        dailySummaryService.rebuild(saved.stream()
+            .map(item -> new UserDailySummary.Key(item.getUser().getId(), item.getDate()))
+            .collect(Collectors.toList()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(EmotionLog emotion) {
+        emotionLogRepository.delete(emotion);
+        dailySummaryService.rebuild(emotion.getUser().getId(), emotion.getDate());
     }
 
     public List<EmotionLog> getTodayEmotions(Long userId) {
@@ -42,18 +71,22 @@ public class EmotionService {
     }
 
     public List<EmotionLog> getRecentEmotions(Long userId, int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        return emotionLogRepository.findByUserId(userId).stream()
-            .filter(emotion -> !emotion.getDate().isBefore(startDate))
-            .toList();
+        return emotionLogRepository.findByUserIdAndDateGreaterThanEqualOrderByIdAsc(userId, LocalDate.now().minusDays(days));
+    }
+
+    public Slice<EmotionLog> getRecentEmotionsSlice(Long userId, int days, Pageable pageable) {
+        return emotionLogRepository.findSliceByUserIdAndDateGreaterThanEqualOrderByIdAsc(userId, LocalDate.now().minusDays(days), pageable);
     }
 
     public long getTodayEmotionCount(Long userId) {
-        return emotionLogRepository.findByUserIdAndDate(userId, LocalDate.now()).size();
+        return dailySummaryService.getTodaySummary(userId).getEmotionCount();
     }
 
+    @Transactional
     public void deleteTodayEmotions(Long userId) {
-        List<EmotionLog> todayEmotions = emotionLogRepository.findByUserIdAndDate(userId, LocalDate.now());
+        LocalDate today = LocalDate.now();
+        List<EmotionLog> todayEmotions = emotionLogRepository.findByUserIdAndDate(userId, today);
         emotionLogRepository.deleteAll(todayEmotions);
+        dailySummaryService.rebuild(userId, today);
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.mydiet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class InFlightRequestRegistry {
+
+    private final ConcurrentHashMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Mono<?> existing = inFlight.get(key);
+            if (existing != null) {
+                coalesced.incrementAndGet();
+                log.debug("진행 중인 AI 요청에 합류: key={}", key);
+                return (Mono<T>) existing;
+            }
+
+            AtomicReference<Mono<T>> self = new AtomicReference<>();
+            Mono<T> shared = Mono.defer(call)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+            self.set(shared);
+
+            Mono<?> raced = inFlight.putIfAbsent(key, shared);
+            if (raced != null) {
+                coalesced.incrementAndGet();
+                return (Mono<T>) raced;
+            }
+            started.incrementAndGet();
+            return shared;
+        });
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getStartedCount() {
+        return started.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+}
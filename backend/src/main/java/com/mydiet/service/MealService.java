@@ -3,13 +3,18 @@ package com.mydiet.service;
 import com.mydiet.dto.MealRequest;
 import com.mydiet.model.MealLog;
 import com.mydiet.model.User;
+import com.mydiet.model.UserDailySummary;
 import com.mydiet.repository.MealLogRepository;
 import com.mydiet.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,7 +22,9 @@ public class MealService {
 
     private final MealLogRepository mealLogRepository;
     private final UserRepository userRepository;
+    private final DailySummaryService dailySummaryService;
 
+    @Transactional
     public MealLog saveMeal(MealRequest request) {
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -30,7 +37,29 @@ public class MealService {
             .date(request.getDate() != null ? request.getDate() : LocalDate.now())
             .build();
 
-        return mealLogRepository.save(mealLog);
+        return save(mealLog);
+    }
+
+    @Transactional
+    public MealLog save(MealLog meal) {
+        MealLog saved = mealLogRepository.save(meal);
+        dailySummaryService.recordMeal(saved);
+        return saved;
+    }
+
+    @Transactional
+    public List<MealLog> saveAll(List<MealLog> meals) {
+        List<MealLog> saved = mealLogRepository.saveAll(meals);
+        dailySummaryService.rebuild(saved.stream()
+            .map(item -> new UserDailySummary.Key(item.getUser().getId(), item.getDate()))
+            .collect(Collectors.toList()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(MealLog meal) {
+        mealLogRepository.delete(meal);
+        dailySummaryService.rebuild(meal.getUser().getId(), meal.getDate());
     }
 
     public List<MealLog> getTodayMeals(Long userId) {
@@ -38,24 +67,26 @@ public class MealService {
     }
 
     public List<MealLog> getRecentMeals(Long userId, int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        return mealLogRepository.findByUserId(userId).stream()
-            .filter(meal -> !meal.getDate().isBefore(startDate))
-            .toList();
+        return mealLogRepository.findByUserIdAndDateGreaterThanEqualOrderByIdAsc(userId, LocalDate.now().minusDays(days));
+    }
+
+    public Slice<MealLog> getRecentMealsSlice(Long userId, int days, Pageable pageable) {
+        return mealLogRepository.findSliceByUserIdAndDateGreaterThanEqualOrderByIdAsc(userId, LocalDate.now().minusDays(days), pageable);
     }
 
     public long getTodayTotalCalories(Long userId) {
-        return mealLogRepository.findByUserIdAndDate(userId, LocalDate.now()).stream()
-            .mapToLong(meal -> meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0)
-            .sum();
+        return dailySummaryService.getTodaySummary(userId).getKcalIn();
     }
 
     public long getTodayMealCount(Long userId) {
-        return mealLogRepository.findByUserIdAndDate(userId, LocalDate.now()).size();
+        return dailySummaryService.getTodaySummary(userId).getMealCount();
     }
 
+    @Transactional
     public void deleteTodayMeals(Long userId) {
-        List<MealLog> todayMeals = mealLogRepository.findByUserIdAndDate(userId, LocalDate.now());
+        LocalDate today = LocalDate.now();
+        List<MealLog> todayMeals = mealLogRepository.findByUserIdAndDate(userId, today);
         mealLogRepository.deleteAll(todayMeals);
+        dailySummaryService.rebuild(userId, today);
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.Optional;
 public class OAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -61,7 +62,9 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
                 user.setUpdatedAt(LocalDateTime.now());
                 
                 log.info("기존 사용자 업데이트: {}", email);
-                return userRepository.save(user);
+                User savedUser = userRepository.save(user);
+                currentUserService.evict(savedUser.getId());
+                return savedUser;
             } else {
                 User newUser = User.builder()
                         .email(email)
@@ -0,0 +1,287 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.ClaudeRequest;
+import com.mydiet.dto.TodaySnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class PromptTemplate {
+
+    private static final String[] EMOTION_MODES = {"다정함", "츤데레", "무자비", "격려"};
+    private static final int MAX_CACHED_PERSONAS = 64;
+    private static final int INITIAL_BUFFER = 2048;
+    private static final int MAX_RETAINED_BUFFER = 16384;
+
+    private static final String PROFILE_HEADER = "=== 사용자 정보 ===\n닉네임: ";
+    private static final String SYSTEM_PROMPT_TAIL =
+        "사용자의 식단, 운동, 감정 상태를 분석하고 개인 맞춤형 조언을 제공하세요. " +
+        "답변은 한국어로 하고, 200자 내외로 간결하게 작성해주세요.";
+    private static final String COACH_GUIDE =
+        "=== MyDiet 코칭 원칙 ===\n" +
+        "1. 사용자 메시지에는 닉네임, 목표 체중, 오늘 기록한 식단·운동·감정이 들어 있습니다. " +
+        "기록에 없는 내용은 추측하지 말고, 기록이 비어 있으면 기록을 남기도록 부드럽게 권하세요.\n" +
+        "2. 칼로리 수치는 사용자가 입력하거나 앱이 추정한 값이므로 오차가 있을 수 있습니다. " +
+        "숫자 하나에 집착하기보다 하루 전체의 균형과 며칠 단위의 흐름을 기준으로 이야기하세요.\n" +
+        "3. 식단 조언은 단백질, 채소, 통곡물, 수분 섭취를 중심으로 하고, 특정 음식을 무조건 금지하기보다 " +
+        "양과 빈도를 조절하는 방법을 제안하세요. 야식이나 과식이 있었다면 다음 끼니에서 조정할 수 있는 방법을 알려주세요.\n" +
+        "4. 운동 조언은 사용자가 이미 한 운동을 먼저 인정한 뒤, 걷기·계단 오르기·스트레칭처럼 " +
+        "오늘 바로 실천할 수 있는 작은 행동 하나를 제안하세요. 부상 위험이 있는 고강도 운동을 갑자기 권하지 마세요.\n" +
+        "5. 감정 기록이 있다면 식단이나 운동보다 먼저 감정을 짧게 공감하세요. 스트레스나 우울감이 보이면 " +
+        "체중 감량보다 휴식과 회복을 우선하도록 안내하세요.\n" +
+        "6. 안전 원칙: 하루 1,200kcal 미만의 극단적인 식단, 단식, 구토, 약물이나 보조제 남용을 권하지 마세요. " +
+        "폭식, 거식, 자해 등이 의심되는 표현이 있으면 판단하지 말고 전문가 상담을 권하세요. " +
+        "질병, 임신, 복용 중인 약과 관련된 질문에는 일반적인 정보만 주고 의사나 영양사와 상의하도록 안내하세요.\n" +
+        "7. 체형이나 외모를 비하하는 표현, 죄책감을 주는 표현은 어떤 말투에서도 사용하지 마세요. " +
+        "엄격한 말투라도 비난의 대상은 습관이지 사람이 아닙니다.\n" +
+        "8. 답변은 한국어로 작성하고, 요청된 길이와 형식을 지키세요. 목록이 필요한 경우에도 세 항목을 넘기지 말고, " +
+        "마지막에는 사용자가 오늘 실천할 수 있는 한 가지 행동으로 마무리하세요.\n" +
+        "9. 앱 기능에 대한 질문에는 식단, 운동, 감정 기록과 대시보드, AI 코치 기능 범위 안에서만 답하고, " +
+        "존재하지 않는 기능을 만들어내지 마세요.\n" +
+        "10. 이전 대화 요약이나 대화 기록이 함께 주어지면 같은 조언을 반복하지 말고, 사용자가 이미 말한 내용을 이어서 답하세요.\n" +
+        "11. 끼니 조언: 아침을 거른 날에는 점심과 저녁에 몰아서 먹지 않도록 간단한 아침 대안을 제안하고, " +
+        "저녁 식사는 잠들기 두세 시간 전에 마치도록 권하세요. 간식은 과일, 견과류 한 줌, 무가당 요거트처럼 구체적으로 제시하세요.\n" +
+        "12. 단백질은 끼니마다 손바닥 크기 정도를 기준으로 설명하고, 달걀, 두부, 생선, 닭가슴살, 콩류처럼 " +
+        "한국 식단에서 쉽게 구할 수 있는 예시를 드세요. 국물 요리와 반찬의 나트륨, 음료와 소스의 당류도 함께 짚어주세요.\n" +
+        "13. 수분과 수면: 물은 하루 여섯에서 여덟 잔을 목표로 하고, 당이 든 음료 대신 물이나 차를 권하세요. " +
+        "수면 부족은 식욕 조절에 영향을 주므로, 늦게까지 깨어 있었다는 기록이 있으면 수면을 먼저 챙기도록 안내하세요.\n" +
+        "14. 체중 변화는 하루 단위로 크게 오르내릴 수 있음을 알려주고, 일주일 평균으로 변화를 보도록 안내하세요. " +
+        "목표 체중까지의 속도는 일주일에 체중의 0.5~1% 정도가 안전하다는 점을 기준으로 삼으세요.\n";
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER));
+
+    private final Map<String, Persona> personas = new ConcurrentHashMap<>();
+    private final Persona nullPersona = new Persona(null);
+
+    public PromptTemplate() {
+        for (String mode : EMOTION_MODES) {
+            personas.put(mode, new Persona(mode));
+        }
+    }
+
+    public String dailyAdvice(TodaySnapshot snapshot) {
+        StringBuilder out = buffer();
+
+        appendProfile(out, snapshot.getUser());
+        out.append("\n=== 오늘의 식단 ===\n");
+
+        List<TodaySnapshot.MealItem> meals = snapshot.getMeals();
+        if (meals.isEmpty()) {
+            out.append("아직 기록된 식단이 없습니다.\n");
+        } else {
+            for (TodaySnapshot.MealItem meal : meals) {
+                out.append("- ").append(meal.getDescription()).append(" (").append(meal.getCaloriesEstimate()).append(" kcal)\n");
+            }
+            out.append("총 섭취 칼로리: ").append(snapshot.getTotalCalories()).append(" kcal\n");
+        }
+
+        out.append("\n=== 오늘의 운동 ===\n");
+        List<TodaySnapshot.WorkoutItem> workouts = snapshot.getWorkouts();
+        if (workouts.isEmpty()) {
+            out.append("아직 기록된 운동이 없습니다.\n");
+        } else {
+            for (TodaySnapshot.WorkoutItem workout : workouts) {
+                out.append("- ").append(workout.getType()).append(" ").append(workout.getDuration())
+                    .append("분 (").append(workout.getCaloriesBurned()).append(" kcal 소모)\n");
+            }
+            out.append("총 소모 칼로리: ").append(snapshot.getTotalCaloriesBurned()).append(" kcal\n");
+        }
+
+        out.append("\n=== 오늘의 감정 ===\n");
+        List<TodaySnapshot.EmotionItem> emotions = snapshot.getEmotions();
+        if (emotions.isEmpty()) {
+            out.append("아직 기록된 감정이 없습니다.\n");
+        } else {
+            for (TodaySnapshot.EmotionItem emotion : emotions) {
+                out.append("- 기분: ").append(emotion.getMood()).append("\n");
+                if (hasText(emotion.getNote())) {
+                    out.append("  메모: ").append(emotion.getNote()).append("\n");
+                }
+            }
+        }
+
+        return out.toString();
+    }
+
+    public String question(TodaySnapshot snapshot, String question) {
+        StringBuilder out = buffer();
+
+        appendProfile(out, snapshot.getUser());
+        out.append("\n=== 오늘의 현황 ===\n");
+        out.append("식단: ").append(snapshot.getMeals().size()).append("회 (").append(snapshot.getTotalCalories()).append(" kcal)\n");
+        out.append("운동: ").append(snapshot.getWorkouts().size()).append("회 (").append(snapshot.getTotalCaloriesBurned()).append(" kcal 소모)\n");
+
+        List<TodaySnapshot.EmotionItem> emotions = snapshot.getEmotions();
+        out.append("감정기록: ").append(emotions.size()).append("회\n");
+        if (!emotions.isEmpty()) {
+            out.append("최근 기분: ").append(emotions.get(emotions.size() - 1).getMood()).append("\n");
+        }
+
+        out.append("\n=== 사용자 질문 ===\n").append(question);
+        return out.toString();
+    }
+
+    public String userContext(TodaySnapshot snapshot) {
+        TodaySnapshot.UserInfo user = snapshot.getUser();
+        Persona persona = persona(user.getEmotionMode());
+        StringBuilder out = buffer();
+
+        out.append("사용자 정보:\n- 닉네임: ").append(user.getNickname()).append("\n");
+        out.append("- 목표 체중: ").append(user.getWeightGoal()).append(persona.contextModeLine);
+
+        List<TodaySnapshot.MealItem> meals = snapshot.getMeals();
+        if (meals.isEmpty()) {
+            out.append("식단: 기록 없음\n");
+        } else {
+            out.append("식단: ");
+            for (TodaySnapshot.MealItem meal : meals) {
+                out.append(meal.getDescription()).append(" ");
+            }
+            out.append("(총 ").append(snapshot.getTotalCalories()).append("kcal)\n");
+        }
+
+        List<TodaySnapshot.WorkoutItem> workouts = snapshot.getWorkouts();
+        if (workouts.isEmpty()) {
+            out.append("운동: 기록 없음\n");
+        } else {
+            out.append("운동: ");
+            for (TodaySnapshot.WorkoutItem workout : workouts) {
+                out.append(workout.getType()).append(" ");
+            }
+            out.append("(총 ").append(snapshot.getTotalWorkoutDuration()).append("분)\n");
+        }
+
+        List<TodaySnapshot.EmotionItem> emotions = snapshot.getEmotions();
+        if (emotions.isEmpty()) {
+            out.append("감정: 기록 없음\n");
+        } else {
+            out.append("감정: ");
+            for (TodaySnapshot.EmotionItem emotion : emotions) {
+                out.append(emotion.getMood()).append(" ");
+            }
+            out.append("\n");
+        }
+
+        return out.toString();
+    }
+
+    public List<ClaudeRequest.SystemBlock> dailyAdviceSystem(String emotionMode) {
+        return persona(emotionMode).adviceSystem;
+    }
+
+    public List<ClaudeRequest.SystemBlock> questionSystem(String emotionMode) {
+        return persona(emotionMode).questionSystem;
+    }
+
+    public List<ClaudeRequest.SystemBlock> chatSystem(String emotionMode) {
+        return persona(emotionMode).chatSystem;
+    }
+
+    public String systemContext(Map<String, Object> userContext) {
+        if (userContext == null || userContext.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder out = buffer();
+        out.append("\n\n사용자 정보: ");
+        if (userContext.get("weightGoal") != null) {
+            out.append("목표 체중: ").append(userContext.get("weightGoal")).append("kg ");
+        }
+        if (userContext.get("todayMeals") != null) {
+            out.append("오늘 식단: ").append(userContext.get("todayMeals")).append("개 ");
+        }
+        if (userContext.get("todayWorkouts") != null) {
+            out.append("오늘 운동: ").append(userContext.get("todayWorkouts")).append("개 ");
+        }
+        return out.toString();
+    }
+
+    private void appendProfile(StringBuilder out, TodaySnapshot.UserInfo user) {
+        out.append(PROFILE_HEADER).append(user.getNickname() != null ? user.getNickname() : "사용자").append("\n");
+        if (user.getWeightGoal() != null) {
+            out.append("목표 체중: ").append(user.getWeightGoal()).append("kg\n");
+        }
+    }
+
+    private Persona persona(String emotionMode) {
+        if (emotionMode == null) {
+            return nullPersona;
+        }
+        Persona persona = personas.get(emotionMode);
+        if (persona != null) {
+            return persona;
+        }
+        persona = new Persona(emotionMode);
+        if (personas.size() < MAX_CACHED_PERSONAS) {
+            personas.putIfAbsent(emotionMode, persona);
+        }
+        return persona;
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffer = new StringBuilder(INITIAL_BUFFER);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static final class Persona {
+        private final String contextModeLine;
+        private final List<ClaudeRequest.SystemBlock> adviceSystem;
+        private final List<ClaudeRequest.SystemBlock> questionSystem;
+        private final List<ClaudeRequest.SystemBlock> chatSystem;
+
+        private Persona(String mode) {
+            String style = mode != null ? mode : "다정함";
+            ClaudeRequest.SystemBlock base = ClaudeRequest.SystemBlock.cached(
+                "당신은 MyDiet 앱의 AI 건강 코치입니다. " + systemTone(mode) + "\n\n" + COACH_GUIDE);
+
+            String coachLine = "=== MyDiet AI 코치 ===\n" +
+                "당신은 " + (mode != null ? mode : "다정한") + " 스타일의 AI 다이어트 코치입니다.\n";
+            adviceSystem = List.of(base, ClaudeRequest.SystemBlock.plain(coachLine +
+                "코칭 스타일: " + style + "\n\n" +
+                "=== 조언 요청 ===\n" +
+                "사용자 메시지의 정보를 바탕으로 사용자에게 도움이 되는 일일 조언을 제공해주세요.\n" +
+                "- 길이: 150자 이내\n" +
+                "- 톤: " + style + " 스타일\n" +
+                "- 구체적이고 실행 가능한 조언 포함\n" +
+                "- 건강과 안전을 최우선으로 고려\n"));
+            questionSystem = List.of(base, ClaudeRequest.SystemBlock.plain(coachLine + "\n" +
+                "=== 답변 가이드라인 ===\n" +
+                "- 사용자의 현재 상황을 고려한 맞춤형 답변\n" +
+                "- 길이: 200자 이내\n" +
+                "- 톤: " + style + " 스타일\n" +
+                "- 구체적이고 실행 가능한 조언\n" +
+                "- 건강과 안전을 최우선으로 고려\n"));
+            chatSystem = List.of(base, ClaudeRequest.SystemBlock.plain(SYSTEM_PROMPT_TAIL));
+
+            contextModeLine = "kg\n- 감정 모드: " + mode + "\n\n오늘의 기록:\n";
+        }
+
+        private static String systemTone(String mode) {
+            switch (mode != null ? mode : "") {
+                case "다정함":
+                    return "따뜻하고 격려적인 말투로 사용자를 응원해주세요. ";
+                case "츤데레":
+                    return "츤데레 캐릭터처럼 겉으로는 차가우면서도 속으로는 걱정하는 말투로 대화하세요. ";
+                case "무자비":
+                    return "엄격하고 직설적인 말투로 사용자의 건강 관리를 체크해주세요. ";
+                case "격려":
+                    return "긍정적이고 활기찬 말투로 사용자를 동기부여해주세요. ";
+                default:
+                    return "친근하고 도움이 되는 말투로 대화하세요. ";
+            }
+        }
+    }
+}
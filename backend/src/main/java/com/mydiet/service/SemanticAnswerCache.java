@@ -0,0 +1,276 @@
+package com.mydiet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class SemanticAnswerCache {
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final double similarityThreshold;
+    private final long[] seeds = new long[SIGNATURE_SIZE];
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Set<Long>> bandIndex = new HashMap<>();
+    private long nextId;
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SemanticAnswerCache(@Value("${mydiet.answer-cache.enabled:true}") boolean enabled,
+                               @Value("${mydiet.answer-cache.max-size:5000}") int maxSize,
+                               @Value("${mydiet.answer-cache.ttl-seconds:86400}") long ttlSeconds,
+                               @Value("${mydiet.answer-cache.similarity:0.6}") double similarityThreshold) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.similarityThreshold = similarityThreshold;
+
+        Random random = new Random(0x5EED_CAFEL);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seeds[i] = random.nextLong() | 1L;
+        }
+    }
+
+    public String lookup(String question, Long userId, String context) {
+        if (!enabled) {
+            return null;
+        }
+        lookups.incrementAndGet();
+
+        int[] shingles = shingles(question);
+        if (shingles.length == 0) {
+            return null;
+        }
+        String contextKey = contextKey(userId, context);
+        long[] signature = signature(shingles);
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                Set<Long> bucket = bandIndex.get(bandKey(contextKey, signature, band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+
+            Entry best = null;
+            double bestSimilarity = similarityThreshold;
+            for (Long id : candidates) {
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    continue;
+                }
+                if (now - entry.createdAt > ttlMillis) {
+                    remove(id);
+                    continue;
+                }
+                double similarity = jaccard(shingles, entry.shingles);
+                if (similarity >= bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+
+            if (best == null) {
+                return null;
+            }
+            hits.incrementAndGet();
+            log.debug("유사 질문 캐시 적중: similarity={}", bestSimilarity);
+            return best.answer;
+        }
+    }
+
+    public void store(String question, Long userId, String context, String answer) {
+        if (!enabled || answer == null || answer.isBlank()) {
+            return;
+        }
+
+        int[] shingles = shingles(question);
+        if (shingles.length == 0) {
+            return;
+        }
+        String contextKey = contextKey(userId, context);
+        long[] signature = signature(shingles);
+
+        synchronized (this) {
+            long id = nextId++;
+            String[] keys = new String[BANDS];
+            for (int band = 0; band < BANDS; band++) {
+                keys[band] = bandKey(contextKey, signature, band);
+                bandIndex.computeIfAbsent(keys[band], key -> new HashSet<>()).add(id);
+            }
+            entries.put(id, new Entry(shingles, keys, answer, System.currentTimeMillis()));
+            stores.incrementAndGet();
+
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > maxSize && eldest.hasNext()) {
+                Map.Entry<Long, Entry> evicted = eldest.next();
+                eldest.remove();
+                unindex(evicted.getKey(), evicted.getValue());
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long lookupCount = lookups.get();
+        long hitCount = hits.get();
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return Map.of(
+            "enabled", enabled,
+            "size", size,
+            "lookups", lookupCount,
+            "hits", hitCount,
+            "hitRate", lookupCount == 0 ? 0.0 : (double) hitCount / lookupCount,
+            "stores", stores.get(),
+            "evictions", evictions.get()
+        );
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            unindex(id, entry);
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void unindex(Long id, Entry entry) {
+        for (String key : entry.bandKeys) {
+            Set<Long> bucket = bandIndex.get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    bandIndex.remove(key);
+                }
+            }
+        }
+    }
+
+    private String contextKey(Long userId, String context) {
+        long hash = 0;
+        if (context != null) {
+            for (int i = 0; i < context.length(); i++) {
+                hash = mix(hash * 31 + context.charAt(i));
+            }
+        }
+        return (userId != null ? userId : "-") + "|" + Long.toHexString(hash);
+    }
+
+    private String bandKey(String contextKey, long[] signature, int band) {
+        long hash = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            hash = hash * 31 + signature[row];
+        }
+        return contextKey + "#" + band + ":" + Long.toHexString(hash);
+    }
+
+    private long[] signature(int[] shingles) {
+        long[] signature = new long[SIGNATURE_SIZE];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                long hash = mix(shingle * seeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static int[] shingles(String question) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty()) {
+            return new int[0];
+        }
+        if (normalized.length() < 2) {
+            return new int[] {normalized.hashCode()};
+        }
+        return IntStream.range(0, normalized.length() - 1)
+            .map(i -> normalized.charAt(i) * 65599 + normalized.charAt(i + 1))
+            .distinct()
+            .sorted()
+            .toArray();
+    }
+
+    private static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static final class Entry {
+        private final int[] shingles;
+        private final String[] bandKeys;
+        private final String answer;
+        private final long createdAt;
+
+        private Entry(int[] shingles, String[] bandKeys, String answer, long createdAt) {
+            this.shingles = shingles;
+            this.bandKeys = bandKeys;
+            this.answer = answer;
+            this.createdAt = createdAt;
+        }
+    }
+}
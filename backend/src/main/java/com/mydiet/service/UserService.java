@@ -16,6 +16,8 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final AccountDeletionService accountDeletionService;
 
     @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
@@ -32,14 +34,8 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    @Transactional
     public void deleteUser(Long userId) {
-        if (userRepository.existsById(userId)) {
-            userRepository.deleteById(userId);
-            log.info("사용자 삭제 완료: userId={}", userId);
-        } else {
-            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
-        }
+        accountDeletionService.deleteAccount(userId);
     }
 
     @Transactional
@@ -49,6 +45,7 @@ public class UserService {
         
         user.setRole(newRole);
         User updatedUser = userRepository.save(user);
+        AfterCommit.run(() -> currentUserService.evict(userId));
         log.info("사용자 역할 변경: userId={}, newRole={}", userId, newRole);
         
         return updatedUser;
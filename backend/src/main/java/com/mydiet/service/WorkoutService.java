@@ -3,13 +3,18 @@ package com.mydiet.service;
 import com.mydiet.dto.WorkoutRequest;
 import com.mydiet.model.WorkoutLog;
 import com.mydiet.model.User;
+import com.mydiet.model.UserDailySummary;
 import com.mydiet.repository.WorkoutLogRepository;
 import com.mydiet.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,7 +22,9 @@ public class WorkoutService {
 
     private final WorkoutLogRepository workoutLogRepository;
     private final UserRepository userRepository;
+    private final DailySummaryService dailySummaryService;
 
+    @Transactional
     public WorkoutLog saveWorkout(WorkoutRequest request) {
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -30,7 +37,29 @@ public class WorkoutService {
             .date(request.getDate() != null ? request.getDate() : LocalDate.now())
             .build();
 
-        return workoutLogRepository.save(workoutLog);
+        return save(workoutLog);
+    }
+
+    @Transactional
+    public WorkoutLog save(WorkoutLog workout) {
+        WorkoutLog saved = workoutLogRepository.save(workout);
+        dailySummaryService.recordWorkout(saved);
+        return saved;
+    }
+
+    @Transactional
+    public List<WorkoutLog> saveAll(List<WorkoutLog> workouts) {
+        List<WorkoutLog> saved = workoutLogRepository.saveAll(workouts);
+        dailySummaryService.rebuild(saved.stream()
+            .map(item -> new UserDailySummary.Key(item.getUser().getId(), item.getDate()))
+            .collect(Collectors.toList()));
+        return saved;
+    }
+
+    @Transactional
+    public void delete(WorkoutLog workout) {
+        workoutLogRepository.delete(workout);
+        dailySummaryService.rebuild(workout.getUser().getId(), workout.getDate());
     }
 
     public List<WorkoutLog> getTodayWorkouts(Long userId) {
@@ -38,30 +67,30 @@ public class WorkoutService {
     }
 
     public List<WorkoutLog> getRecentWorkouts(Long userId, int days) {
-        LocalDate startDate = LocalDate.now().minusDays(days);
-        return workoutLogRepository.findByUserId(userId).stream()
-            .filter(workout -> !workout.getDate().isBefore(startDate))
-            .toList();
+        return workoutLogRepository.findByUserIdAndDateGreaterThanEqualOrderByIdAsc(userId, LocalDate.now().minusDays(days));
+    }
+
+    public Slice<WorkoutLog> getRecentWorkoutsSlice(Long userId, int days, Pageable pageable) {
+        return workoutLogRepository.findSliceByUserIdAndDateGreaterThanEqualOrderByIdAsc(userId, LocalDate.now().minusDays(days), pageable);
     }
 
     public long getTodayTotalDuration(Long userId) {
-        return workoutLogRepository.findByUserIdAndDate(userId, LocalDate.now()).stream()
-            .mapToLong(workout -> workout.getDuration() != null ? workout.getDuration() : 0)
-            .sum();
+        return dailySummaryService.getTodaySummary(userId).getWorkoutMinutes();
     }
 
     public long getTodayCaloriesBurned(Long userId) {
-        return workoutLogRepository.findByUserIdAndDate(userId, LocalDate.now()).stream()
-            .mapToLong(workout -> workout.getCaloriesBurned() != null ? workout.getCaloriesBurned() : 0)
-            .sum();
+        return dailySummaryService.getTodaySummary(userId).getKcalBurned();
     }
 
     public long getTodayWorkoutCount(Long userId) {
-        return workoutLogRepository.findByUserIdAndDate(userId, LocalDate.now()).size();
+        return dailySummaryService.getTodaySummary(userId).getWorkoutCount();
     }
 
+    @Transactional
     public void deleteTodayWorkouts(Long userId) {
-        List<WorkoutLog> todayWorkouts = workoutLogRepository.findByUserIdAndDate(userId, LocalDate.now());
+        LocalDate today = LocalDate.now();
+        List<WorkoutLog> todayWorkouts = workoutLogRepository.findByUserIdAndDate(userId, today);
         workoutLogRepository.deleteAll(todayWorkouts);
+        dailySummaryService.rebuild(userId, today);
     }
 }
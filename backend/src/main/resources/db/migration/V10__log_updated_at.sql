@@ -0,0 +1,3 @@
+ALTER TABLE meal_logs ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+ALTER TABLE workout_logs ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+ALTER TABLE emotion_logs ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
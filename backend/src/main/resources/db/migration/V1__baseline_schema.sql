@@ -0,0 +1,70 @@
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGSERIAL PRIMARY KEY,
+    nickname        VARCHAR(255) NOT NULL,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    password        VARCHAR(255),
+    provider        VARCHAR(255),
+    provider_id     VARCHAR(255),
+    weight_goal     DOUBLE PRECISION,
+    height          DOUBLE PRECISION,
+    current_weight  DOUBLE PRECISION,
+    emotion_mode    VARCHAR(255),
+    role            VARCHAR(255),
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS meal_logs (
+    id                 BIGSERIAL PRIMARY KEY,
+    user_id            BIGINT NOT NULL REFERENCES users (id),
+    description        VARCHAR(255) NOT NULL,
+    photo_url          VARCHAR(255),
+    calories_estimate  INTEGER,
+    date               DATE NOT NULL,
+    created_at         TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS workout_logs (
+    id               BIGSERIAL PRIMARY KEY,
+    user_id          BIGINT NOT NULL REFERENCES users (id),
+    type             VARCHAR(255) NOT NULL,
+    intensity        VARCHAR(255),
+    duration         INTEGER,
+    calories_burned  INTEGER,
+    date             DATE NOT NULL,
+    created_at       TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS emotion_logs (
+    id            BIGSERIAL PRIMARY KEY,
+    user_id       BIGINT NOT NULL REFERENCES users (id),
+    mood          VARCHAR(255) NOT NULL,
+    stress_level  INTEGER,
+    note          TEXT,
+    date          DATE NOT NULL,
+    created_at    TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS inbody_data (
+    id                     BIGSERIAL PRIMARY KEY,
+    user_id                BIGINT NOT NULL REFERENCES users (id),
+    weight                 DOUBLE PRECISION NOT NULL,
+    body_fat_percentage    DOUBLE PRECISION,
+    muscle_mass            DOUBLE PRECISION,
+    body_water_percentage  DOUBLE PRECISION,
+    basal_metabolic_rate   DOUBLE PRECISION,
+    visceral_fat_level     DOUBLE PRECISION,
+    notes                  VARCHAR(255),
+    recorded_at            TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS claude_responses (
+    id            BIGSERIAL PRIMARY KEY,
+    user_id       BIGINT NOT NULL REFERENCES users (id),
+    type          VARCHAR(255) NOT NULL,
+    content       VARCHAR(2000),
+    prompt        VARCHAR(1000),
+    emotion_mode  VARCHAR(255),
+    is_positive   BOOLEAN,
+    created_at    TIMESTAMP
+);
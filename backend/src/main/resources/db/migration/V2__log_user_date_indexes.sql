@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_meal_logs_user_date ON meal_logs (user_id, date);
+CREATE INDEX IF NOT EXISTS idx_workout_logs_user_date ON workout_logs (user_id, date);
+CREATE INDEX IF NOT EXISTS idx_emotion_logs_user_date ON emotion_logs (user_id, date);
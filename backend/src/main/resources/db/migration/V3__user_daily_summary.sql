@@ -0,0 +1,36 @@
+CREATE TABLE IF NOT EXISTS user_daily_summary (
+    user_id          BIGINT NOT NULL REFERENCES users (id),
+    date             DATE NOT NULL,
+    meal_count       INTEGER NOT NULL DEFAULT 0,
+    workout_count    INTEGER NOT NULL DEFAULT 0,
+    emotion_count    INTEGER NOT NULL DEFAULT 0,
+    kcal_in          INTEGER NOT NULL DEFAULT 0,
+    kcal_burned      INTEGER NOT NULL DEFAULT 0,
+    workout_minutes  INTEGER NOT NULL DEFAULT 0,
+    last_mood        VARCHAR(255),
+    updated_at       TIMESTAMP,
+    PRIMARY KEY (user_id, date)
+);
+
+INSERT INTO user_daily_summary (user_id, date, meal_count, workout_count, emotion_count,
+                                kcal_in, kcal_burned, workout_minutes, last_mood, updated_at)
+SELECT k.user_id, k.date,
+       COALESCE(m.cnt, 0), COALESCE(w.cnt, 0), COALESCE(e.cnt, 0),
+       COALESCE(m.kcal, 0), COALESCE(w.kcal, 0), COALESCE(w.minutes, 0),
+       lm.mood, now()
+FROM (SELECT user_id, date FROM meal_logs
+      UNION SELECT user_id, date FROM workout_logs
+      UNION SELECT user_id, date FROM emotion_logs) k
+LEFT JOIN (SELECT user_id, date, COUNT(*) AS cnt, SUM(calories_estimate) AS kcal
+           FROM meal_logs GROUP BY user_id, date) m
+       ON m.user_id = k.user_id AND m.date = k.date
+LEFT JOIN (SELECT user_id, date, COUNT(*) AS cnt, SUM(calories_burned) AS kcal, SUM(duration) AS minutes
+           FROM workout_logs GROUP BY user_id, date) w
+       ON w.user_id = k.user_id AND w.date = k.date
+LEFT JOIN (SELECT user_id, date, COUNT(*) AS cnt
+           FROM emotion_logs GROUP BY user_id, date) e
+       ON e.user_id = k.user_id AND e.date = k.date
+LEFT JOIN (SELECT DISTINCT ON (user_id, date) user_id, date, mood
+           FROM emotion_logs ORDER BY user_id, date, id DESC) lm
+       ON lm.user_id = k.user_id AND lm.date = k.date
+ON CONFLICT (user_id, date) DO NOTHING;
@@ -0,0 +1,14 @@
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50 MINVALUE 1;
+CREATE SEQUENCE IF NOT EXISTS meal_logs_seq START WITH 1 INCREMENT BY 50 MINVALUE 1;
+CREATE SEQUENCE IF NOT EXISTS workout_logs_seq START WITH 1 INCREMENT BY 50 MINVALUE 1;
+CREATE SEQUENCE IF NOT EXISTS emotion_logs_seq START WITH 1 INCREMENT BY 50 MINVALUE 1;
+CREATE SEQUENCE IF NOT EXISTS inbody_data_seq START WITH 1 INCREMENT BY 50 MINVALUE 1;
+CREATE SEQUENCE IF NOT EXISTS claude_responses_seq START WITH 1 INCREMENT BY 50 MINVALUE 1;
+
+-- pooled 옵티마이저는 nextval 값을 블록의 상한으로 사용하므로 기존 최대 id + 50에서 시작한다
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+SELECT setval('meal_logs_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM meal_logs), false);
+SELECT setval('workout_logs_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM workout_logs), false);
+SELECT setval('emotion_logs_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM emotion_logs), false);
+SELECT setval('inbody_data_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM inbody_data), false);
+SELECT setval('claude_responses_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM claude_responses), false);
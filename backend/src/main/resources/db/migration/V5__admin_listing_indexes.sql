@@ -0,0 +1,6 @@
+UPDATE users SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_users_role_id ON users (role, id);
+CREATE INDEX IF NOT EXISTS idx_users_provider_id ON users (provider, id);
+CREATE INDEX IF NOT EXISTS idx_users_email_lower_prefix ON users (lower(email) text_pattern_ops);
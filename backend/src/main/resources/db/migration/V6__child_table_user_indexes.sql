@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_claude_responses_user_created ON claude_responses (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_inbody_data_user_recorded ON inbody_data (user_id, recorded_at);
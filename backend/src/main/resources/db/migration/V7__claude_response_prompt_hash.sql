@@ -0,0 +1,4 @@
+ALTER TABLE claude_responses ADD COLUMN IF NOT EXISTS prompt_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_claude_responses_user_type_hash
+    ON claude_responses (user_id, type, prompt_hash, created_at);
@@ -0,0 +1,4 @@
+ALTER TABLE claude_responses ADD COLUMN IF NOT EXISTS input_tokens INTEGER;
+ALTER TABLE claude_responses ADD COLUMN IF NOT EXISTS output_tokens INTEGER;
+ALTER TABLE claude_responses ADD COLUMN IF NOT EXISTS cache_read_tokens INTEGER;
+ALTER TABLE claude_responses ADD COLUMN IF NOT EXISTS cache_write_tokens INTEGER;
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_claude_responses_user_type_created
+    ON claude_responses (user_id, type, created_at DESC);
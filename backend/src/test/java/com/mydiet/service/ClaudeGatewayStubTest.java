@@ -0,0 +1,149 @@
+package com.mydiet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mydiet.config.ClaudeStubServer;
+import com.mydiet.dto.ClaudeHealth;
+import com.mydiet.dto.ClaudeReply;
+import com.mydiet.dto.ClaudeRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ClaudeGateway + ClaudeResilience를 오류 주입 스텁 서버에 붙여 실제 HTTP 경로로 검증한다.
+ */
+class ClaudeGatewayStubTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMillis(300);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebClient webClient = WebClient.create();
+    private final List<ClaudeStubServer> stubs = new ArrayList<>();
+
+    @AfterEach
+    void stopStubs() {
+        stubs.forEach(ClaudeStubServer::stop);
+    }
+
+    @Test
+    void rateLimitedCallsOpenCircuit() throws IOException {
+        ClaudeStubServer stub = stub(1.0, 0, 0);
+        ClaudeResilience resilience = resilience(4, 30);
+        ClaudeHealthMonitor monitor = new ClaudeHealthMonitor(resilience, 50, 3, 20);
+        ClaudeGateway gateway = gateway(stub, resilience, monitor);
+
+        for (int i = 0; i < 4; i++) {
+            Throwable error = failure(gateway.send(request()));
+            assertInstanceOf(ClaudeGateway.UpstreamException.class, error);
+            assertEquals(429, ((ClaudeGateway.UpstreamException) error).getStatus());
+        }
+
+        assertEquals(ClaudeResilience.State.OPEN, resilience.getState());
+        assertInstanceOf(ClaudeResilience.CallRejectedException.class, failure(gateway.send(request())));
+        assertEquals(4L, stub.getStats().get("rateLimited"));
+        assertEquals(4L, stub.getStats().get("requests"));
+        assertEquals(ClaudeHealth.Status.DOWN, monitor.refresh(true).getStatus());
+    }
+
+    @Test
+    void overloadedResponsesFailSendAndStream() throws IOException {
+        ClaudeStubServer stub = stub(0, 1.0, 0);
+        ClaudeResilience resilience = resilience(4, 30);
+        ClaudeGateway gateway = gateway(stub, resilience, new ClaudeHealthMonitor(resilience, 50, 3, 20));
+
+        Throwable sendError = failure(gateway.send(request()));
+        assertInstanceOf(ClaudeGateway.UpstreamException.class, sendError);
+        assertEquals(529, ((ClaudeGateway.UpstreamException) sendError).getStatus());
+
+        Throwable streamError = failure(gateway.stream(request(), usage -> { }).then());
+        assertInstanceOf(ClaudeGateway.UpstreamException.class, streamError);
+        assertEquals(529, ((ClaudeGateway.UpstreamException) streamError).getStatus());
+
+        assertEquals(2L, stub.getStats().get("overloaded"));
+        assertEquals(ClaudeResilience.State.CLOSED, resilience.getState());
+        assertEquals(2, resilience.getStats().get("bufferedCalls"));
+    }
+
+    @Test
+    void stalledResponsesTimeOutAndCountAsFailures() throws IOException {
+        ClaudeStubServer stub = stub(0, 0, 1.0);
+        ClaudeResilience resilience = resilience(2, 30);
+        ClaudeGateway gateway = gateway(stub, resilience, new ClaudeHealthMonitor(resilience, 50, 3, 20));
+
+        for (int i = 0; i < 2; i++) {
+            assertInstanceOf(TimeoutException.class, failure(gateway.send(request())));
+        }
+
+        assertEquals(ClaudeResilience.State.OPEN, resilience.getState());
+        assertEquals(2L, stub.getStats().get("timedOut"));
+        assertEquals(5, resilience.getStats().get("availableConcurrentCalls"));
+    }
+
+    @Test
+    void openCircuitRecoversThroughHalfOpenTrial() throws IOException {
+        ClaudeResilience resilience = resilience(4, 0);
+        ClaudeHealthMonitor monitor = new ClaudeHealthMonitor(resilience, 50, 3, 20);
+        ClaudeGateway failing = gateway(stub(0, 1.0, 0), resilience, monitor);
+        ClaudeGateway healthy = gateway(stub(0, 0, 0), resilience, monitor);
+
+        for (int i = 0; i < 4; i++) {
+            assertInstanceOf(ClaudeGateway.UpstreamException.class, failure(failing.send(request())));
+        }
+        assertEquals(ClaudeResilience.State.OPEN, resilience.getState());
+
+        ClaudeReply reply = healthy.send(request()).block();
+        assertNotNull(reply);
+        assertTrue(reply.hasText());
+        assertTrue(reply.getOutputTokens() > 0);
+        assertEquals(ClaudeResilience.State.CLOSED, resilience.getState());
+
+        StringBuilder streamed = new StringBuilder();
+        List<ClaudeReply> usages = new ArrayList<>();
+        healthy.stream(request(), usages::add).doOnNext(streamed::append).blockLast();
+        assertTrue(streamed.length() > 0);
+        assertEquals(1, usages.size());
+        assertTrue(usages.get(0).getOutputTokens() > 0);
+        assertEquals(ClaudeHealth.Status.DEGRADED, monitor.refresh(true).getStatus());
+    }
+
+    private ClaudeStubServer stub(double rateLimitRate, double overloadRate, double timeoutRate) throws IOException {
+        ClaudeStubServer stub = new ClaudeStubServer(objectMapper, 0, "fixed:0",
+            rateLimitRate, overloadRate, timeoutRate, 5000, 0, 8, 42);
+        stub.start();
+        stubs.add(stub);
+        return stub;
+    }
+
+    private static ClaudeResilience resilience(int minimumCalls, long openSeconds) {
+        return new ClaudeResilience(10, minimumCalls, 50, openSeconds, 1, 5);
+    }
+
+    private ClaudeGateway gateway(ClaudeStubServer stub, ClaudeResilience resilience, ClaudeHealthMonitor monitor) {
+        return new ClaudeGateway(webClient, objectMapper, resilience, monitor, stub.getMessagesUrl(), "sk-ant-stub", 5);
+    }
+
+    private static ClaudeRequest request() {
+        return ClaudeRequest.builder()
+            .model("claude-stub")
+            .systemBlock(ClaudeRequest.SystemBlock.plain("톤: 츤데레"))
+            .message(ClaudeRequest.Message.user("오늘 저녁 뭐 먹을까요?"))
+            .timeout(REQUEST_TIMEOUT)
+            .build();
+    }
+
+    private static Throwable failure(Mono<?> call) {
+        return call.then(Mono.<Throwable>empty()).onErrorResume(Mono::just).block();
+    }
+}
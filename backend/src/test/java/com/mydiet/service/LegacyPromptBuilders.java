@@ -0,0 +1,217 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.TodaySnapshot;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PromptTemplate 도입 전 컨트롤러/서비스에 있던 프롬프트 빌더 원본.
+ * 출력 비교 기준으로만 사용한다.
+ */
+final class LegacyPromptBuilders {
+
+    private LegacyPromptBuilders() {
+    }
+
+    // ClaudeAIService.buildDailyAdvicePrompt
+    static String dailyAdvice(TodaySnapshot snapshot) {
+        TodaySnapshot.UserInfo user = snapshot.getUser();
+        List<TodaySnapshot.MealItem> meals = snapshot.getMeals();
+        List<TodaySnapshot.WorkoutItem> workouts = snapshot.getWorkouts();
+        List<TodaySnapshot.EmotionItem> emotions = snapshot.getEmotions();
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("=== MyDiet AI 코치 ===\n");
+        prompt.append("당신은 ").append(user.getEmotionMode() != null ? user.getEmotionMode() : "다정한").append(" 스타일의 AI 다이어트 코치입니다.\n\n");
+
+        prompt.append("=== 사용자 정보 ===\n");
+        prompt.append("닉네임: ").append(user.getNickname() != null ? user.getNickname() : "사용자").append("\n");
+        if (user.getWeightGoal() != null) {
+            prompt.append("목표 체중: ").append(user.getWeightGoal()).append("kg\n");
+        }
+        prompt.append("코칭 스타일: ").append(user.getEmotionMode() != null ? user.getEmotionMode() : "다정함").append("\n");
+
+        prompt.append("\n=== 오늘의 식단 ===\n");
+        if (meals.isEmpty()) {
+            prompt.append("아직 기록된 식단이 없습니다.\n");
+        } else {
+            int totalCalories = 0;
+            for (TodaySnapshot.MealItem meal : meals) {
+                prompt.append("- ").append(meal.getDescription()).append(" (").append(meal.getCaloriesEstimate()).append(" kcal)\n");
+                totalCalories += meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0;
+            }
+            prompt.append("총 섭취 칼로리: ").append(totalCalories).append(" kcal\n");
+        }
+
+        prompt.append("\n=== 오늘의 운동 ===\n");
+        if (workouts.isEmpty()) {
+            prompt.append("아직 기록된 운동이 없습니다.\n");
+        } else {
+            int totalBurned = 0;
+            for (TodaySnapshot.WorkoutItem workout : workouts) {
+                prompt.append("- ").append(workout.getType()).append(" ").append(workout.getDuration()).append("분 (").append(workout.getCaloriesBurned()).append(" kcal 소모)\n");
+                totalBurned += workout.getCaloriesBurned() != null ? workout.getCaloriesBurned() : 0;
+            }
+            prompt.append("총 소모 칼로리: ").append(totalBurned).append(" kcal\n");
+        }
+
+        prompt.append("\n=== 오늘의 감정 ===\n");
+        if (emotions.isEmpty()) {
+            prompt.append("아직 기록된 감정이 없습니다.\n");
+        } else {
+            for (TodaySnapshot.EmotionItem emotion : emotions) {
+                prompt.append("- 기분: ").append(emotion.getMood()).append("\n");
+                if (emotion.getNote() != null && !emotion.getNote().trim().isEmpty()) {
+                    prompt.append("  메모: ").append(emotion.getNote()).append("\n");
+                }
+            }
+        }
+
+        prompt.append("\n=== 조언 요청 ===\n");
+        prompt.append("위 정보를 바탕으로 사용자에게 도움이 되는 일일 조언을 제공해주세요.\n");
+        prompt.append("- 길이: 150자 이내\n");
+        prompt.append("- 톤: ").append(user.getEmotionMode() != null ? user.getEmotionMode() : "다정함").append(" 스타일\n");
+        prompt.append("- 구체적이고 실행 가능한 조언 포함\n");
+        prompt.append("- 건강과 안전을 최우선으로 고려\n");
+
+        return prompt.toString();
+    }
+
+    // AIController.buildQuestionPrompt
+    static String question(TodaySnapshot snapshot, String question) {
+        TodaySnapshot.UserInfo user = snapshot.getUser();
+        List<TodaySnapshot.MealItem> meals = snapshot.getMeals();
+        List<TodaySnapshot.WorkoutItem> workouts = snapshot.getWorkouts();
+        List<TodaySnapshot.EmotionItem> emotions = snapshot.getEmotions();
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("=== MyDiet AI 코치 ===\n");
+        prompt.append("당신은 ").append(user.getEmotionMode() != null ? user.getEmotionMode() : "다정한").append(" 스타일의 AI 다이어트 코치입니다.\n\n");
+
+        prompt.append("=== 사용자 정보 ===\n");
+        prompt.append("닉네임: ").append(user.getNickname() != null ? user.getNickname() : "사용자").append("\n");
+        if (user.getWeightGoal() != null) {
+            prompt.append("목표 체중: ").append(user.getWeightGoal()).append("kg\n");
+        }
+
+        prompt.append("\n=== 오늘의 현황 ===\n");
+
+        int totalCalories = meals.stream().mapToInt(m -> m.getCaloriesEstimate() != null ? m.getCaloriesEstimate() : 0).sum();
+        int totalBurned = workouts.stream().mapToInt(w -> w.getCaloriesBurned() != null ? w.getCaloriesBurned() : 0).sum();
+
+        prompt.append("식단: ").append(meals.size()).append("회 (").append(totalCalories).append(" kcal)\n");
+        prompt.append("운동: ").append(workouts.size()).append("회 (").append(totalBurned).append(" kcal 소모)\n");
+        prompt.append("감정기록: ").append(emotions.size()).append("회\n");
+
+        if (!emotions.isEmpty()) {
+            TodaySnapshot.EmotionItem latestEmotion = emotions.get(emotions.size() - 1);
+            prompt.append("최근 기분: ").append(latestEmotion.getMood()).append("\n");
+        }
+
+        prompt.append("\n=== 사용자 질문 ===\n");
+        prompt.append(question).append("\n\n");
+
+        prompt.append("=== 답변 가이드라인 ===\n");
+        prompt.append("- 사용자의 현재 상황을 고려한 맞춤형 답변\n");
+        prompt.append("- 길이: 200자 이내\n");
+        prompt.append("- 톤: ").append(user.getEmotionMode() != null ? user.getEmotionMode() : "다정함").append(" 스타일\n");
+        prompt.append("- 구체적이고 실행 가능한 조언\n");
+        prompt.append("- 건강과 안전을 최우선으로 고려\n");
+
+        return prompt.toString();
+    }
+
+    // AIQuestionController.getUserContext
+    static String userContext(TodaySnapshot snapshot) {
+        TodaySnapshot.UserInfo user = snapshot.getUser();
+        List<TodaySnapshot.MealItem> todayMeals = snapshot.getMeals();
+        List<TodaySnapshot.WorkoutItem> todayWorkouts = snapshot.getWorkouts();
+        List<TodaySnapshot.EmotionItem> todayEmotions = snapshot.getEmotions();
+
+        StringBuilder context = new StringBuilder();
+        context.append("사용자 정보:\n");
+        context.append("- 닉네임: ").append(user.getNickname()).append("\n");
+        context.append("- 목표 체중: ").append(user.getWeightGoal()).append("kg\n");
+        context.append("- 감정 모드: ").append(user.getEmotionMode()).append("\n\n");
+
+        context.append("오늘의 기록:\n");
+
+        if (!todayMeals.isEmpty()) {
+            context.append("식단: ");
+            int totalCalories = 0;
+            for (TodaySnapshot.MealItem meal : todayMeals) {
+                context.append(meal.getDescription()).append(" ");
+                totalCalories += meal.getCaloriesEstimate() != null ? meal.getCaloriesEstimate() : 0;
+            }
+            context.append("(총 ").append(totalCalories).append("kcal)\n");
+        } else {
+            context.append("식단: 기록 없음\n");
+        }
+
+        if (!todayWorkouts.isEmpty()) {
+            context.append("운동: ");
+            int totalDuration = 0;
+            for (TodaySnapshot.WorkoutItem workout : todayWorkouts) {
+                context.append(workout.getType()).append(" ");
+                totalDuration += workout.getDuration() != null ? workout.getDuration() : 0;
+            }
+            context.append("(총 ").append(totalDuration).append("분)\n");
+        } else {
+            context.append("운동: 기록 없음\n");
+        }
+
+        if (!todayEmotions.isEmpty()) {
+            context.append("감정: ");
+            for (TodaySnapshot.EmotionItem emotion : todayEmotions) {
+                context.append(emotion.getMood()).append(" ");
+            }
+            context.append("\n");
+        } else {
+            context.append("감정: 기록 없음\n");
+        }
+
+        return context.toString();
+    }
+
+    // ClaudeApiService.buildSystemPrompt
+    static String systemPrompt(String emotionMode, Map<String, Object> userContext) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("당신은 MyDiet 앱의 AI 건강 코치입니다. ");
+
+        switch (emotionMode) {
+            case "다정함":
+                prompt.append("따뜻하고 격려적인 말투로 사용자를 응원해주세요. ");
+                break;
+            case "츤데레":
+                prompt.append("츤데레 캐릭터처럼 겉으로는 차가우면서도 속으로는 걱정하는 말투로 대화하세요. ");
+                break;
+            case "무자비":
+                prompt.append("엄격하고 직설적인 말투로 사용자의 건강 관리를 체크해주세요. ");
+                break;
+            case "격려":
+                prompt.append("긍정적이고 활기찬 말투로 사용자를 동기부여해주세요. ");
+                break;
+            default:
+                prompt.append("친근하고 도움이 되는 말투로 대화하세요. ");
+        }
+
+        prompt.append("사용자의 식단, 운동, 감정 상태를 분석하고 개인 맞춤형 조언을 제공하세요. ");
+        prompt.append("답변은 한국어로 하고, 200자 내외로 간결하게 작성해주세요.");
+
+        if (userContext != null && !userContext.isEmpty()) {
+            prompt.append("\n\n사용자 정보: ");
+            if (userContext.get("weightGoal") != null) {
+                prompt.append("목표 체중: ").append(userContext.get("weightGoal")).append("kg ");
+            }
+            if (userContext.get("todayMeals") != null) {
+                prompt.append("오늘 식단: ").append(userContext.get("todayMeals")).append("개 ");
+            }
+            if (userContext.get("todayWorkouts") != null) {
+                prompt.append("오늘 운동: ").append(userContext.get("todayWorkouts")).append("개 ");
+            }
+        }
+
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,192 @@
+package com.mydiet.service;
+
+import com.mydiet.dto.ClaudeRequest;
+import com.mydiet.dto.TodaySnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptTemplateTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+    private static final String[] MODES = {"다정함", "츤데레", "무자비", "격려", null, "차분함"};
+    private static final String[] QUESTIONS = {"오늘 저녁 뭐 먹을까요?", ""};
+
+    private final PromptTemplate promptTemplate = new PromptTemplate();
+
+    @Test
+    void userContextMatchesLegacyBuilder() {
+        for (TodaySnapshot snapshot : snapshots()) {
+            assertEquals(LegacyPromptBuilders.userContext(snapshot), promptTemplate.userContext(snapshot), describe(snapshot));
+        }
+    }
+
+    @Test
+    void dailyAdviceMatchesLegacyBuilder() {
+        for (TodaySnapshot snapshot : snapshots()) {
+            String legacy = LegacyPromptBuilders.dailyAdvice(snapshot);
+            String mode = snapshot.getUser().getEmotionMode();
+            String style = mode != null ? mode : "다정함";
+
+            // 코치 헤더, 코칭 스타일, 조언 요청은 시스템 블록으로 옮겨졌고 나머지는 그대로여야 한다.
+            String header = legacy.substring(0, legacy.indexOf("=== 사용자 정보 ==="));
+            String request = legacy.substring(legacy.indexOf("\n=== 조언 요청 ===\n"));
+            String body = legacy.substring(header.length(), legacy.length() - request.length())
+                .replace("코칭 스타일: " + style + "\n", "");
+            assertEquals(body, promptTemplate.dailyAdvice(snapshot), describe(snapshot));
+
+            String system = promptTemplate.dailyAdviceSystem(mode).get(1).getText();
+            assertTrue(system.startsWith(header.substring(0, header.length() - 1) + "코칭 스타일: " + style + "\n"), describe(snapshot));
+            assertTrue(system.endsWith(request.substring(request.indexOf("- 길이: "))), describe(snapshot));
+        }
+    }
+
+    @Test
+    void questionMatchesLegacyBuilder() {
+        for (TodaySnapshot snapshot : snapshots()) {
+            for (String question : QUESTIONS) {
+                String legacy = LegacyPromptBuilders.question(snapshot, question);
+                String mode = snapshot.getUser().getEmotionMode();
+
+                // 코치 헤더와 답변 가이드라인은 시스템 블록으로 옮겨졌고 나머지는 그대로여야 한다.
+                String header = legacy.substring(0, legacy.indexOf("=== 사용자 정보 ==="));
+                String guide = legacy.substring(legacy.indexOf("\n\n=== 답변 가이드라인 ===\n"));
+                String body = legacy.substring(header.length(), legacy.length() - guide.length());
+                assertEquals(body, promptTemplate.question(snapshot, question), describe(snapshot));
+
+                List<ClaudeRequest.SystemBlock> system = promptTemplate.questionSystem(mode);
+                assertEquals(header + guide.substring(2), system.get(1).getText(), describe(snapshot));
+            }
+        }
+    }
+
+    @Test
+    void chatSystemMatchesLegacyBuilder() {
+        for (String mode : MODES) {
+            for (Map<String, Object> context : contexts()) {
+                // 기존 빌더는 null 모드에서 NPE가 났으므로 기본 말투와 비교한다.
+                String legacy = LegacyPromptBuilders.systemPrompt(mode != null ? mode : "", context);
+
+                List<ClaudeRequest.SystemBlock> blocks = promptTemplate.chatSystem(mode);
+                String base = blocks.get(0).getText();
+                String tail = promptTemplate.systemContext(context);
+                String rendered = base.substring(0, base.indexOf("\n\n=== MyDiet 코칭 원칙 ==="))
+                    + blocks.get(1).getText()
+                    + (tail != null ? tail : "");
+
+                assertTrue(blocks.get(0).isCached(), mode);
+                assertEquals(legacy, rendered, mode + " " + context);
+            }
+        }
+    }
+
+    @Test
+    void oversizedRenderDoesNotLeakIntoNextPrompt() {
+        List<TodaySnapshot.MealItem> meals = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            meals.add(meal("현미밥과 닭가슴살 샐러드 " + i, 450));
+        }
+        TodaySnapshot large = snapshot(user("츤데레", "민지", 55.5), meals, List.of(), List.of());
+        TodaySnapshot small = snapshot(user("격려", null, null), List.of(), List.of(), List.of());
+
+        String first = promptTemplate.dailyAdvice(large);
+        String second = promptTemplate.dailyAdvice(small);
+
+        assertTrue(first.length() > 16384);
+        assertEquals(LegacyPromptBuilders.userContext(small), promptTemplate.userContext(small));
+        assertEquals(second, promptTemplate.dailyAdvice(small));
+    }
+
+    private static List<TodaySnapshot> snapshots() {
+        List<List<TodaySnapshot.MealItem>> mealSets = Arrays.asList(
+            List.of(),
+            List.of(meal("김치찌개", null)),
+            List.of(meal("오트밀", 320), meal("연어 포케", 610), meal(null, 150)));
+        List<List<TodaySnapshot.WorkoutItem>> workoutSets = Arrays.asList(
+            List.of(),
+            List.of(workout("걷기", null, null)),
+            List.of(workout("러닝", 30, 280), workout("요가", 45, 150)));
+        List<List<TodaySnapshot.EmotionItem>> emotionSets = Arrays.asList(
+            List.of(),
+            List.of(emotion("좋음", null)),
+            List.of(emotion("피곤함", "   ")),
+            List.of(emotion("스트레스", "야근"), emotion("평온", "산책 후 기분 전환")));
+
+        List<TodaySnapshot> snapshots = new ArrayList<>();
+        for (String mode : MODES) {
+            for (String nickname : new String[]{"민지", null}) {
+                for (Double weightGoal : new Double[]{58.0, null}) {
+                    for (List<TodaySnapshot.MealItem> meals : mealSets) {
+                        for (List<TodaySnapshot.WorkoutItem> workouts : workoutSets) {
+                            for (List<TodaySnapshot.EmotionItem> emotions : emotionSets) {
+                                snapshots.add(snapshot(user(mode, nickname, weightGoal), meals, workouts, emotions));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(864, snapshots.size());
+        return snapshots;
+    }
+
+    private static List<Map<String, Object>> contexts() {
+        Map<String, Object> weightOnly = new HashMap<>();
+        weightOnly.put("weightGoal", 60.5);
+        weightOnly.put("todayMeals", null);
+
+        Map<String, Object> full = new HashMap<>();
+        full.put("weightGoal", 60.5);
+        full.put("todayMeals", 3);
+        full.put("todayWorkouts", 1);
+
+        Map<String, Object> unrelated = new HashMap<>();
+        unrelated.put("nickname", "민지");
+
+        return Arrays.asList(null, Map.of(), weightOnly, full, unrelated);
+    }
+
+    private static TodaySnapshot snapshot(TodaySnapshot.UserInfo user,
+                                          List<TodaySnapshot.MealItem> meals,
+                                          List<TodaySnapshot.WorkoutItem> workouts,
+                                          List<TodaySnapshot.EmotionItem> emotions) {
+        return TodaySnapshot.builder()
+            .date(TODAY)
+            .user(user)
+            .meals(meals)
+            .workouts(workouts)
+            .emotions(emotions)
+            .build();
+    }
+
+    private static TodaySnapshot.UserInfo user(String mode, String nickname, Double weightGoal) {
+        return TodaySnapshot.UserInfo.builder().id(1L).nickname(nickname).emotionMode(mode).weightGoal(weightGoal).build();
+    }
+
+    private static TodaySnapshot.MealItem meal(String description, Integer calories) {
+        return TodaySnapshot.MealItem.builder().description(description).caloriesEstimate(calories).date(TODAY).build();
+    }
+
+    private static TodaySnapshot.WorkoutItem workout(String type, Integer duration, Integer burned) {
+        return TodaySnapshot.WorkoutItem.builder().type(type).duration(duration).caloriesBurned(burned).date(TODAY).build();
+    }
+
+    private static TodaySnapshot.EmotionItem emotion(String mood, String note) {
+        return TodaySnapshot.EmotionItem.builder().mood(mood).note(note).date(TODAY).build();
+    }
+
+    private static String describe(TodaySnapshot snapshot) {
+        TodaySnapshot.UserInfo user = snapshot.getUser();
+        return "mode=" + user.getEmotionMode() + ", nickname=" + user.getNickname() + ", weightGoal=" + user.getWeightGoal()
+            + ", meals=" + snapshot.getMeals().size() + ", workouts=" + snapshot.getWorkouts().size()
+            + ", emotions=" + snapshot.getEmotions().size();
+    }
+}